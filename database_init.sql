@@ -62,6 +62,8 @@ CREATE TABLE IF NOT EXISTS user_activities (
 -- Create indexes to improve query performance
 CREATE INDEX idx_users_username ON users(username);
 CREATE INDEX idx_users_email ON users(email);
+-- Backs the newest-first user listing and its keyset pagination on (created_at, id)
+CREATE INDEX idx_users_created_at_id ON users(created_at, id);
 CREATE INDEX idx_sessions_user_id ON user_sessions(user_id);
 CREATE INDEX idx_activities_user_id ON user_activities(user_id);
 CREATE INDEX idx_activities_created_at ON user_activities(created_at);
@@ -0,0 +1,39 @@
+#!/bin/bash
+# Time from starting the launcher to the first successful login.
+# Polls POST /login until it redirects to the welcome page, then stops the server.
+#
+# usage: launcher/measure-first-login.sh [java options...]
+#   e.g. launcher/measure-first-login.sh -XX:SharedArchiveFile=launcher/target/webapp-launcher.jsa
+# environment: LOGIN_USERNAME, LOGIN_PASSWORD (a registered account), PORT (8080)
+
+LAUNCHER_DIR="$(cd "$(dirname "$0")" && pwd)/target"
+PORT="${PORT:-8080}"
+LOGIN_USERNAME="${LOGIN_USERNAME:-user1}"
+LOGIN_PASSWORD="${LOGIN_PASSWORD:-Password123456#}"
+LOGIN_URL="http://127.0.0.1:${PORT}/webapp/login"
+
+if [ ! -f "${LAUNCHER_DIR}/webapp-launcher.jar" ]; then
+    echo "Launcher not built, run: mvn package && mvn -f launcher/pom.xml package" >&2
+    exit 1
+fi
+
+start=$(date +%s%3N)
+java "$@" -Dlauncher.port="${PORT}" -jar "${LAUNCHER_DIR}/webapp-launcher.jar" > "${LAUNCHER_DIR}/measure-first-login.log" 2>&1 &
+server=$!
+trap 'kill ${server} 2>/dev/null; wait ${server} 2>/dev/null' EXIT
+trap 'exit 1' INT TERM
+
+while kill -0 ${server} 2>/dev/null; do
+    location=$(curl -s -o /dev/null -w '%{redirect_url}' --max-time 10 \
+        --data-urlencode "username=${LOGIN_USERNAME}" --data-urlencode "password=${LOGIN_PASSWORD}" \
+        "${LOGIN_URL}")
+    if [[ "${location}" == */welcome ]]; then
+        echo "First successful login after $(( $(date +%s%3N) - start )) ms"
+        grep "Ready in" "${LAUNCHER_DIR}/measure-first-login.log"
+        exit 0
+    fi
+    sleep 0.05
+done
+
+echo "Launcher exited before a login succeeded, see ${LAUNCHER_DIR}/measure-first-login.log" >&2
+exit 1
@@ -0,0 +1,142 @@
+package com.example.webapp.launcher;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.scan.StandardJarScanFilter;
+import org.apache.tomcat.util.scan.StandardJarScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+/**
+ * Embedded Server Launcher
+ * Runs the web application on an embedded Tomcat 9 and reports when it is ready
+ * to serve logins. Settings are system properties:
+ *   launcher.port              HTTP port (8080)
+ *   launcher.context.path      Context path (/webapp)
+ *   launcher.webapp            Exploded application directory (webapp/ next to the jar)
+ *   launcher.warmup.requests   GETs per page before reporting ready (20, 0 to skip)
+ *   launcher.exit.after.ready  Stop once ready, for AppCDS training runs (false)
+ *
+ * Startup work that would otherwise land on the first user:
+ *   - JSPs are precompiled by the build and mapped in web.xml, so Jasper never runs
+ *   - startup.warmup.enabled is switched on, so the application opens its pooled
+ *     connections and exercises the login path while the context starts
+ *   - the public pages are requested over HTTP to load and compile the request path
+ *   - no jar is scanned for TLDs or web fragments: the compiled JSPs reference
+ *     their tag classes directly and the application registers everything in web.xml
+ */
+public final class EmbeddedServer {
+
+    private static final String[] WARMUP_PAGES = { "/", "/login", "/register", "/hello" };
+
+    private EmbeddedServer() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = Integer.getInteger("launcher.port", 8080);
+        String contextPath = System.getProperty("launcher.context.path", "/webapp");
+        if ("/".equals(contextPath)) {
+            contextPath = "";
+        }
+        File webapp = new File(System.getProperty("launcher.webapp", new File(launcherHome(), "webapp").getPath()));
+        int warmupRequests = Integer.getInteger("launcher.warmup.requests", 20);
+        boolean exitAfterReady = Boolean.getBoolean("launcher.exit.after.ready");
+
+        if (!new File(webapp, "WEB-INF/web.xml").isFile()) {
+            System.err.println("Web application not found: " + webapp.getAbsolutePath());
+            System.exit(1);
+        }
+
+        // Read by the application's AppConfig, which lets system properties override application.properties
+        if (System.getProperty("startup.warmup.enabled") == null) {
+            System.setProperty("startup.warmup.enabled", "true");
+        }
+
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(new File(launcherHome(), "tomcat." + port).getAbsolutePath());
+        tomcat.setPort(port);
+        tomcat.getConnector();
+
+        Context context = tomcat.addWebapp(contextPath, webapp.getAbsolutePath());
+        StandardJarScanner jarScanner = new StandardJarScanner();
+        jarScanner.setScanClassPath(false);
+        jarScanner.setScanManifest(false);
+        StandardJarScanFilter jarScanFilter = new StandardJarScanFilter();
+        jarScanFilter.setTldSkip("*");
+        jarScanFilter.setPluggabilitySkip("*");
+        jarScanner.setJarScanFilter(jarScanFilter);
+        context.setJarScanner(jarScanner);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> stop(tomcat), "launcher-shutdown"));
+
+        tomcat.start();
+        if (!context.getState().isAvailable()) {
+            System.err.println("Web application failed to start, see the log above");
+            stop(tomcat);
+            System.exit(1);
+        }
+
+        String baseUrl = "http://127.0.0.1:" + port + contextPath;
+        for (String page : WARMUP_PAGES) {
+            for (int i = 0; i < warmupRequests; i++) {
+                get(baseUrl + page);
+            }
+        }
+
+        System.out.println("Ready in " + ManagementFactory.getRuntimeMXBean().getUptime()
+            + " ms since JVM start: " + baseUrl + "/");
+
+        if (exitAfterReady) {
+            // A normal exit lets -XX:ArchiveClassesAtExit dump the classes loaded so far
+            System.exit(0);
+        }
+        tomcat.getServer().await();
+    }
+
+    /**
+     * Request a page and read the whole response
+     * @param url Page URL
+     * @throws IOException If the page cannot be fetched or does not answer 200
+     */
+    private static void get(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            int status = connection.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Warm-up request to " + url + " returned " + status);
+            }
+            try (InputStream body = connection.getInputStream()) {
+                byte[] buffer = new byte[8192];
+                while (body.read(buffer) != -1) {
+                    // Discard, only the server-side work matters
+                }
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static void stop(Tomcat tomcat) {
+        try {
+            tomcat.stop();
+            tomcat.destroy();
+        } catch (LifecycleException e) {
+            System.err.println("Error stopping embedded server: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return Directory containing the launcher jar (or its classes directory)
+     */
+    private static File launcherHome() throws URISyntaxException {
+        File location = new File(EmbeddedServer.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        return location.getParentFile();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.webapp.bench;
+
+import com.example.webapp.model.User;
+import com.example.webapp.util.DatabaseUtil;
+import com.example.webapp.util.PasswordUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark Database Setup
+ * Creates the schema in the in-memory H2 database and seeds benchmark users
+ */
+public final class BenchDatabase {
+    
+    public static final String USERNAME = "benchuser";
+    public static final String PASSWORD = "Bench12345";
+    
+    private BenchDatabase() {
+    }
+    
+    /**
+     * Create the tables if needed
+     */
+    public static void createSchema() throws SQLException, IOException {
+        String script;
+        try (InputStream input = BenchDatabase.class.getClassLoader().getResourceAsStream("schema-h2.sql");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            script = reader.lines()
+                .filter(line -> !line.trim().startsWith("--"))
+                .collect(Collectors.joining("\n"));
+        }
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (String sql : script.split(";")) {
+                if (!sql.trim().isEmpty()) {
+                    stmt.execute(sql);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Insert the benchmark user with the given password (idempotent)
+     * @param passwordHash Hash stored for the user
+     * @return Benchmark user
+     */
+    public static User seedUser(String passwordHash) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            try (PreparedStatement delete = conn.prepareStatement("DELETE FROM users WHERE username = ?")) {
+                delete.setString(1, USERNAME);
+                delete.executeUpdate();
+            }
+            try (PreparedStatement insert = conn.prepareStatement(
+                    "INSERT INTO users (username, password, email, full_name) VALUES (?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS)) {
+                insert.setString(1, USERNAME);
+                insert.setString(2, passwordHash);
+                insert.setString(3, "bench@example.com");
+                insert.setString(4, "Bench User");
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    User user = new User(USERNAME, null, "bench@example.com", "Bench User");
+                    user.setId(keys.getInt(1));
+                    return user;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Seed the benchmark user with a hash produced by the active policy
+     * @return Benchmark user
+     */
+    public static User seedUser() throws SQLException {
+        return seedUser(PasswordUtil.hashPassword(PASSWORD));
+    }
+}
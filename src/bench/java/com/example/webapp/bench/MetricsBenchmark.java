@@ -0,0 +1,74 @@
+package com.example.webapp.bench;
+
+import com.example.webapp.metrics.LatencyHistogram;
+import com.example.webapp.metrics.MetricsRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics Benchmarks
+ * Cost of recording a latency sample, alone and with 8 threads on one timer,
+ * and of rendering /metrics for a populated registry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+    
+    private LatencyHistogram timer;
+    
+    @Setup
+    public void setUp() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        timer = registry.timer("bench_duration_seconds", "Benchmark timer", "path", "/bench");
+        for (int i = 0; i < 20; i++) {
+            LatencyHistogram histogram = registry.timer("bench_duration_seconds", "Benchmark timer", "path", "/page" + i);
+            for (int j = 0; j < 10000; j++) {
+                histogram.recordNanos(ThreadLocalRandom.current().nextLong(50_000, 50_000_000));
+            }
+        }
+    }
+    
+    @Benchmark
+    public void recordSample() {
+        timer.recordNanos(ThreadLocalRandom.current().nextLong(50_000, 50_000_000));
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public void recordSampleContended() {
+        timer.recordNanos(ThreadLocalRandom.current().nextLong(50_000, 50_000_000));
+    }
+    
+    @Benchmark
+    public void timedBlock() {
+        try (LatencyHistogram.Sample sample = timer.start()) {
+            // Measures the Sample overhead around an empty body
+        }
+    }
+    
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int scrape() throws IOException {
+        StringWriter out = new StringWriter(16384);
+        MetricsRegistry.getInstance().writePrometheus(out);
+        return out.getBuffer().length();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.webapp.bench;
+
+import com.example.webapp.util.PasswordUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password Strength Benchmarks
+ * PasswordUtil.isPasswordStrong on passwords that pass and fail the policy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordStrengthBenchmark {
+    
+    @Param({"Bench12345", "alllowercase", "Sh0rt", "Money123456789!-with-a-much-longer-tail"})
+    public String password;
+    
+    @Benchmark
+    public boolean isPasswordStrong() {
+        return PasswordUtil.isPasswordStrong(password);
+    }
+}
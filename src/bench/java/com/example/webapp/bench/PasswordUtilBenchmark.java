@@ -0,0 +1,51 @@
+package com.example.webapp.bench;
+
+import com.example.webapp.util.BCryptPasswordHashPolicy;
+import com.example.webapp.util.PasswordUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordUtil Benchmarks
+ * BCrypt hash and verify at several costs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordUtilBenchmark {
+    
+    @Param({"4", "8", "10", "12"})
+    public int cost;
+    
+    private String hash;
+    
+    @Setup
+    public void setUp() {
+        PasswordUtil.setHashPolicy(new BCryptPasswordHashPolicy(cost));
+        hash = PasswordUtil.hashPassword(BenchDatabase.PASSWORD);
+    }
+    
+    @Benchmark
+    public String hashPassword() {
+        return PasswordUtil.hashPassword(BenchDatabase.PASSWORD);
+    }
+    
+    @Benchmark
+    public boolean verifyPassword() {
+        return PasswordUtil.verifyPassword(BenchDatabase.PASSWORD, hash);
+    }
+}
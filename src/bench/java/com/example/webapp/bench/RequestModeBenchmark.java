@@ -0,0 +1,223 @@
+package com.example.webapp.bench;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.model.User;
+import com.example.webapp.servlet.WelcomeServlet;
+import com.example.webapp.session.SessionPrincipal;
+import com.example.webapp.util.ConnectionPool;
+import com.example.webapp.util.DatabaseUtil;
+import com.example.webapp.util.RequestExecutor;
+import org.h2.api.Trigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Request Execution Mode Load Test
+ * Fires bursts of /welcome requests at WelcomeServlet from 200 stand-in
+ * container threads and waits for every response. Each request refreshes the
+ * user from the pooled H2 database, where a SELECT trigger adds latencyMs
+ * per query to stand in for MySQL round trips.
+ *
+ * platform: the servlet loads the page on the container thread
+ * virtual:  the servlet goes async and RequestExecutor runs the lookup on a
+ *           virtual thread, answering 503 beyond maxConcurrent in flight
+ *           (Java 21+, fails the trial on older JDKs)
+ *
+ * 503 responses are counted as rejected. Any other failure (an exception,
+ * the error page, an unexpected status or a request that never completes)
+ * fails the trial, as does borrowing more connections than the pool allows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Dapp.environment=bench", "-Dlogging.level.root=WARN",
+    "-Dlogging.level.com.example.webapp=WARN", "-Dlogging.level.com.example.webapp.bench=INFO",
+    "-Dsession.user.refresh.interval.ms=0"})
+public class RequestModeBenchmark {
+
+    private static final Logger LOG = LogManager.getLogger(RequestModeBenchmark.class);
+
+    private static final int REQUESTS = 2000;
+    private static final int CONTAINER_THREADS = 200;
+    private static final long BURST_TIMEOUT_SECONDS = 60;
+
+    @Param({RequestExecutor.MODE_PLATFORM, RequestExecutor.MODE_VIRTUAL})
+    public String mode;
+
+    @Param({"20"})
+    public int latencyMs;
+
+    // Only applies in virtual mode; 500 is below the burst size, so it exercises the 503 path
+    @Param({"10000", "500"})
+    public int maxConcurrent;
+
+    private ExecutorService containerThreads;
+    private WelcomeServlet welcomeServlet;
+    private User user;
+
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicReference<String> firstFailure = new AtomicReference<>();
+
+    @Setup
+    public void setUp() throws Exception {
+        // Read by RequestExecutor and AppConfig on first use, so set before either loads
+        System.setProperty("request.execution.mode", mode);
+        System.setProperty("request.execution.max.concurrent", String.valueOf(maxConcurrent));
+        if (RequestExecutor.getInstance().isVirtual() != RequestExecutor.MODE_VIRTUAL.equals(mode)) {
+            throw new IllegalStateException("mode=virtual needs Java 21 or later, run with -p mode=platform");
+        }
+        containerThreads = Executors.newFixedThreadPool(CONTAINER_THREADS);
+
+        BenchDatabase.createSchema();
+        user = BenchDatabase.seedUser();
+        QueryLatency.install(latencyMs, DatabaseUtil.getConnectionPool());
+
+        welcomeServlet = new WelcomeServlet();
+        welcomeServlet.init();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        containerThreads.shutdown();
+        containerThreads.awaitTermination(10, TimeUnit.SECONDS);
+        QueryLatency.uninstall();
+
+        ConnectionPool pool = DatabaseUtil.getConnectionPool();
+        LOG.info("{} served, {} rejected with 503, {} failed; max active connections {} of {}",
+            served.get(), rejected.get(), failures.get(), QueryLatency.maxActiveConnections.get(), pool.getMaxSize());
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " requests failed, first: " + firstFailure.get());
+        }
+        if (QueryLatency.maxActiveConnections.get() > pool.getMaxSize()) {
+            throw new IllegalStateException("Connection pool limit exceeded");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            containerThreads.execute(() -> handleRequest(done));
+        }
+        if (!done.await(BURST_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            recordFailure(done.getCount() + " requests did not complete within " + BURST_TIMEOUT_SECONDS + " s");
+            throw new IllegalStateException(firstFailure.get());
+        }
+    }
+
+    /**
+     * One GET /welcome on a stand-in container thread, in a fresh login session
+     * Counts down when the response is finished: on return for a synchronous
+     * request, on dispatch or complete for an async one.
+     */
+    private void handleRequest(CountDownLatch done) {
+        HttpSession session = ServletStubs.session();
+        session.setAttribute("user", SessionPrincipal.of(user, System.currentTimeMillis()));
+        Map<String, String> parameters = new HashMap<>();
+        HttpServletResponse response = ServletStubs.response();
+        HttpServletRequest[] request = new HttpServletRequest[1];
+        request[0] = ServletStubs.asyncRequest("GET", "/welcome", parameters, session, response, () -> {
+            recordOutcome(request[0], response);
+            done.countDown();
+        });
+        try {
+            welcomeServlet.service(request[0], response);
+            if (!request[0].isAsyncStarted()) {
+                recordOutcome(request[0], response);
+                done.countDown();
+            }
+        } catch (Exception e) {
+            recordFailure(e.toString());
+            done.countDown();
+        }
+    }
+
+    private void recordOutcome(HttpServletRequest request, HttpServletResponse response) {
+        int status = response.getStatus();
+        if (status == HttpServletResponse.SC_SERVICE_UNAVAILABLE) {
+            rejected.incrementAndGet();
+        } else if (status != HttpServletResponse.SC_OK) {
+            recordFailure("status " + status);
+        } else if (request.getAttribute("errorMessage") != null) {
+            recordFailure("error page: " + request.getAttribute("errorMessage"));
+        } else {
+            served.incrementAndGet();
+        }
+    }
+
+    private void recordFailure(String failure) {
+        failures.incrementAndGet();
+        firstFailure.compareAndSet(null, failure);
+    }
+
+    /**
+     * H2 trigger that delays every SELECT on users while the query holds its
+     * pooled connection, and samples how many connections are borrowed
+     */
+    public static class QueryLatency implements Trigger {
+
+        static final AtomicInteger maxActiveConnections = new AtomicInteger();
+        private static volatile int latencyMs;
+        private static volatile ConnectionPool pool;
+
+        static void install(int latencyMs, ConnectionPool pool) throws Exception {
+            QueryLatency.latencyMs = latencyMs;
+            QueryLatency.pool = pool;
+            try (Connection conn = DatabaseUtil.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("DROP TRIGGER IF EXISTS users_query_latency");
+                stmt.execute("CREATE TRIGGER users_query_latency BEFORE SELECT ON users CALL \""
+                    + QueryLatency.class.getName() + "\"");
+            }
+        }
+
+        static void uninstall() throws Exception {
+            try (Connection conn = DatabaseUtil.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.execute("DROP TRIGGER IF EXISTS users_query_latency");
+            }
+        }
+
+        @Override
+        public void fire(Connection conn, Object[] oldRow, Object[] newRow) {
+            maxActiveConnections.accumulateAndGet(pool.getActiveConnections(), Math::max);
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
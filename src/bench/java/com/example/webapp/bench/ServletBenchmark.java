@@ -0,0 +1,86 @@
+package com.example.webapp.bench;
+
+import com.example.webapp.model.User;
+import com.example.webapp.servlet.LoginServlet;
+import com.example.webapp.servlet.WelcomeServlet;
+import com.example.webapp.session.SessionPrincipal;
+import com.example.webapp.util.BCryptPasswordHashPolicy;
+import com.example.webapp.util.PasswordUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet Request Benchmarks
+ * Drives LoginServlet and WelcomeServlet end to end against an in-memory H2
+ * database standing in for MySQL. Login throttling is disabled so repeated
+ * logins of the same user are not rejected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Dapp.environment=bench", "-Dlogin.ratelimit.enabled=false"})
+public class ServletBenchmark {
+    
+    @Param({"4", "10"})
+    public int bcryptCost;
+    
+    private LoginServlet loginServlet;
+    private WelcomeServlet welcomeServlet;
+    private Map<String, String> loginParameters;
+    private HttpSession loggedInSession;
+    
+    @Setup
+    public void setUp() throws Exception {
+        PasswordUtil.setHashPolicy(new BCryptPasswordHashPolicy(bcryptCost));
+        BenchDatabase.createSchema();
+        User user = BenchDatabase.seedUser();
+        
+        loginServlet = new LoginServlet();
+        loginServlet.init();
+        welcomeServlet = new WelcomeServlet();
+        welcomeServlet.init();
+        
+        loginParameters = new HashMap<>();
+        loginParameters.put("username", BenchDatabase.USERNAME);
+        loginParameters.put("password", BenchDatabase.PASSWORD);
+        
+        loggedInSession = ServletStubs.session();
+        loggedInSession.setAttribute("user", SessionPrincipal.of(user, System.currentTimeMillis()));
+    }
+    
+    @Benchmark
+    public HttpServletResponse login() throws ServletException, IOException {
+        HttpServletRequest request = ServletStubs.request("POST", "/login", loginParameters, null);
+        HttpServletResponse response = ServletStubs.response();
+        loginServlet.service(request, response);
+        return response;
+    }
+    
+    @Benchmark
+    public HttpServletResponse welcome() throws ServletException, IOException {
+        HttpServletRequest request = ServletStubs.request("GET", "/welcome", new HashMap<>(), loggedInSession);
+        HttpServletResponse response = ServletStubs.response();
+        welcomeServlet.service(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.webapp.bench;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.RequestDispatcher;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Servlet API Stand-ins
+ * Minimal in-memory request, response and session objects so servlets can be
+ * driven directly from JMH without a container. Methods that are not
+ * modelled return null, 0 or false. Responses record their status code.
+ */
+public final class ServletStubs {
+    
+    private static final RequestDispatcher NO_OP_DISPATCHER = stub(RequestDispatcher.class, (method, args) -> null);
+    
+    // Shared so the writer and its encoder buffer are not counted as per-request allocation
+    private static final PrintWriter DISCARDING_WRITER = new PrintWriter(new OutputStreamWriter(new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }, StandardCharsets.UTF_8));
+    
+    private ServletStubs() {
+    }
+    
+    /**
+     * Create a request
+     * @param method HTTP method
+     * @param uri Request URI
+     * @param parameters Request parameters
+     * @param session Session returned by getSession, may be null
+     * @return Request stand-in
+     */
+    public static HttpServletRequest request(String method, String uri, Map<String, String> parameters,
+                                             HttpSession session) {
+        return request(method, uri, parameters, session, null, null);
+    }
+    
+    /**
+     * Create a request that supports async processing
+     * startAsync returns a context whose dispatch and complete call onComplete,
+     * and whose start runs the task on a new thread as a container would.
+     * @param method HTTP method
+     * @param uri Request URI
+     * @param parameters Request parameters
+     * @param session Session returned by getSession, may be null
+     * @param response Response returned by the async context
+     * @param onComplete Called once, when the async request is dispatched or completed
+     * @return Request stand-in
+     */
+    public static HttpServletRequest asyncRequest(String method, String uri, Map<String, String> parameters,
+                                                  HttpSession session, HttpServletResponse response,
+                                                  Runnable onComplete) {
+        return request(method, uri, parameters, session, response, onComplete);
+    }
+    
+    private static HttpServletRequest request(String method, String uri, Map<String, String> parameters,
+                                              HttpSession session, HttpServletResponse response,
+                                              Runnable onComplete) {
+        Map<String, Object> attributes = new HashMap<>();
+        HttpSession[] sessionHolder = { session };
+        HttpServletRequest[] self = new HttpServletRequest[1];
+        AsyncContext asyncContext = onComplete != null ? asyncContext(self, response, onComplete) : null;
+        AtomicBoolean asyncStarted = new AtomicBoolean();
+        self[0] = stub(HttpServletRequest.class, (name, args) -> {
+            switch (name) {
+                case "getMethod": return method;
+                case "getRequestURI": return uri;
+                case "getContextPath": return "";
+                case "getServletPath": return uri;
+                case "getParameter": return parameters.get((String) args[0]);
+                case "getAttribute": return attributes.get((String) args[0]);
+                case "setAttribute": attributes.put((String) args[0], args[1]); return null;
+                case "removeAttribute": attributes.remove((String) args[0]); return null;
+                case "getAttributeNames": return Collections.enumeration(attributes.keySet());
+                case "getHeader": return "User-Agent".equalsIgnoreCase((String) args[0]) ? "JMH" : null;
+                case "getHeaders": return Collections.emptyEnumeration();
+                case "getRemoteAddr": return "127.0.0.1";
+                case "getServerName": return "localhost";
+                case "getServerPort": return 8080;
+                case "getScheme": return "http";
+                case "getProtocol": return "HTTP/1.1";
+                case "getRequestDispatcher": return NO_OP_DISPATCHER;
+                case "getSession":
+                    if (sessionHolder[0] == null && (args == null || (Boolean) args[0])) {
+                        sessionHolder[0] = session();
+                    }
+                    return sessionHolder[0];
+                case "isAsyncSupported": return asyncContext != null;
+                case "isAsyncStarted": return asyncStarted.get();
+                case "startAsync":
+                    if (asyncContext == null) {
+                        throw new IllegalStateException("Request does not support async processing");
+                    }
+                    asyncStarted.set(true);
+                    return asyncContext;
+                default: return null;
+            }
+        });
+        return self[0];
+    }
+    
+    private static AsyncContext asyncContext(HttpServletRequest[] request, HttpServletResponse response,
+                                             Runnable onComplete) {
+        AtomicBoolean completed = new AtomicBoolean();
+        return stub(AsyncContext.class, (name, args) -> {
+            switch (name) {
+                case "getRequest": return request[0];
+                case "getResponse": return response;
+                case "dispatch":
+                case "complete":
+                    if (completed.compareAndSet(false, true)) {
+                        onComplete.run();
+                    }
+                    return null;
+                case "start": new Thread((Runnable) args[0]).start(); return null;
+                default: return null;
+            }
+        });
+    }
+    
+    /**
+     * Create a response whose body is discarded
+     * getStatus reports the last setStatus, sendError or sendRedirect.
+     * @return Response stand-in
+     */
+    public static HttpServletResponse response() {
+        PrintWriter writer = DISCARDING_WRITER;
+        ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+            }
+            
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+            
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+            
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+        int[] status = { HttpServletResponse.SC_OK };
+        return stub(HttpServletResponse.class, (name, args) -> {
+            switch (name) {
+                case "setStatus":
+                case "sendError": status[0] = (Integer) args[0]; return null;
+                case "sendRedirect": status[0] = HttpServletResponse.SC_FOUND; return null;
+                case "getStatus": return status[0];
+                case "getWriter": return writer;
+                case "getOutputStream": return outputStream;
+                case "getCharacterEncoding": return "UTF-8";
+                case "encodeURL":
+                case "encodeRedirectURL": return args[0];
+                default: return null;
+            }
+        });
+    }
+    
+    /**
+     * Create an empty session
+     * @return Session stand-in
+     */
+    public static HttpSession session() {
+        Map<String, Object> attributes = new HashMap<>();
+        String id = Long.toHexString(System.nanoTime());
+        return stub(HttpSession.class, (name, args) -> {
+            switch (name) {
+                case "getId": return id;
+                case "getAttribute": return attributes.get((String) args[0]);
+                case "setAttribute": attributes.put((String) args[0], args[1]); return null;
+                case "removeAttribute": attributes.remove((String) args[0]); return null;
+                case "getMaxInactiveInterval": return 1800;
+                case "invalidate": attributes.clear(); return null;
+                default: return null;
+            }
+        });
+    }
+    
+    /**
+     * Handles a stubbed method call by name
+     */
+    private interface Handler {
+        Object invoke(String methodName, Object[] args);
+    }
+    
+    private static <T> T stub(Class<T> type, Handler handler) {
+        Object proxy = Proxy.newProxyInstance(ServletStubs.class.getClassLoader(), new Class<?>[] { type },
+            (self, method, args) -> {
+                String name = method.getName();
+                if ("hashCode".equals(name) && args == null) {
+                    return System.identityHashCode(self);
+                }
+                if ("equals".equals(name) && args != null && args.length == 1) {
+                    return self == args[0];
+                }
+                if ("toString".equals(name) && args == null) {
+                    return type.getSimpleName() + "Stub";
+                }
+                Object result = handler.invoke(name, args);
+                return result != null ? result : defaultValue(method.getReturnType());
+            });
+        return type.cast(proxy);
+    }
+    
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.webapp.dao;
+
+import com.example.webapp.model.User;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User Mapping Benchmark
+ * UserDAO.mapResultSetToUser on an in-memory result set, without query cost
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMappingBenchmark {
+    
+    private final UserDAO userDAO = new UserDAO();
+    private SimpleResultSet resultSet;
+    
+    @Setup
+    public void setUp() throws SQLException {
+        resultSet = new SimpleResultSet();
+        resultSet.setAutoClose(false);
+        resultSet.addColumn("id", Types.INTEGER, 10, 0);
+        resultSet.addColumn("username", Types.VARCHAR, 50, 0);
+        resultSet.addColumn("password", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("email", Types.VARCHAR, 100, 0);
+        resultSet.addColumn("full_name", Types.VARCHAR, 100, 0);
+        resultSet.addColumn("created_at", Types.TIMESTAMP, 0, 0);
+        resultSet.addColumn("updated_at", Types.TIMESTAMP, 0, 0);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        resultSet.addRow(42, "benchuser", "$2a$12$abcdefghijklmnopqrstuuJb1lW0yJf0kq4rGk4y2tQz5s6Y5pVQW",
+            "bench@example.com", "Bench User", now, now);
+    }
+    
+    @Benchmark
+    public User mapResultSetToUser() throws SQLException {
+        resultSet.beforeFirst();
+        resultSet.next();
+        return userDAO.mapResultSetToUser(resultSet);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.webapp.dao;
+
+import com.example.webapp.model.User;
+import com.example.webapp.util.AppConfig;
+import com.example.webapp.util.LruCache;
+
+import java.util.Locale;
+
+/**
+ * Caching User Data Access Object
+ * Serves findById and findByUsername from a bounded in-memory cache.
+ * Unknown usernames are cached as negative entries with a shorter TTL, and
+ * every write path through this DAO invalidates the affected entries.
+ * Callers always receive their own copy of a cached user.
+ */
+public class CachingUserDAO extends UserDAO {
+    
+    // Marks a username that is known not to exist
+    private static final Integer NOT_FOUND = 0;
+    
+    private static final UserDAO SHARED_INSTANCE = createSharedInstance();
+    
+    private final LruCache<Integer, User> usersById;
+    private final LruCache<String, Integer> idsByUsername;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    
+    /**
+     * Create caching DAO
+     * @param maxEntries Maximum number of cached users
+     * @param ttlMillis Lifetime of a cached user
+     * @param negativeTtlMillis Lifetime of a cached unknown username
+     */
+    public CachingUserDAO(int maxEntries, long ttlMillis, long negativeTtlMillis) {
+        this.usersById = new LruCache<>(maxEntries);
+        this.idsByUsername = new LruCache<>(maxEntries);
+        this.ttlMillis = ttlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+    }
+    
+    /**
+     * Get the DAO shared by all servlets, so that invalidations are seen everywhere
+     * @return Caching DAO, or a plain UserDAO when the cache is disabled
+     */
+    public static UserDAO getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+    
+    private static UserDAO createSharedInstance() {
+        if (!AppConfig.getBoolean("cache.user.enabled", true)) {
+            return new UserDAO();
+        }
+        return new CachingUserDAO(
+            AppConfig.getInt("cache.user.max.entries", 10000),
+            AppConfig.getLong("cache.user.ttl.ms", 60000),
+            AppConfig.getLong("cache.user.negative.ttl.ms", 5000));
+    }
+    
+    @Override
+    public User findById(int id) {
+        User cached = usersById.get(id);
+        if (cached != null) {
+            return new User(cached);
+        }
+        
+        User user = super.findById(id);
+        if (user != null) {
+            cache(user);
+        }
+        return user;
+    }
+    
+    @Override
+    public User findByUsername(String username) {
+        Integer id = idsByUsername.get(usernameKey(username));
+        if (NOT_FOUND.equals(id)) {
+            return null;
+        }
+        if (id != null) {
+            User cached = usersById.get(id);
+            if (cached != null) {
+                return new User(cached);
+            }
+        }
+        
+        User user = super.findByUsername(username);
+        if (user != null) {
+            cache(user);
+        } else {
+            idsByUsername.put(usernameKey(username), NOT_FOUND, negativeTtlMillis);
+        }
+        return user;
+    }
+    
+    @Override
+    public User findByIdIfNewer(int id, long version) {
+        User user = super.findByIdIfNewer(id, version);
+        if (user != null) {
+            cache(user);
+        }
+        return user;
+    }
+    
+    @Override
+    public RegistrationResult registerUser(User user) {
+        RegistrationResult result = super.registerUser(user);
+        // Drop the negative entry even on failure; a concurrent insert may have won
+        idsByUsername.remove(usernameKey(user.getUsername()));
+        return result;
+    }
+    
+    @Override
+    public boolean updatePassword(int userId, String expectedPassword, String newPassword) {
+        boolean updated = super.updatePassword(userId, expectedPassword, newPassword);
+        invalidate(userId);
+        return updated;
+    }
+    
+    /**
+     * Remove a user from the cache
+     * @param userId User ID
+     */
+    public void invalidate(int userId) {
+        User removed = usersById.remove(userId);
+        if (removed != null) {
+            idsByUsername.remove(usernameKey(removed.getUsername()));
+        }
+    }
+    
+    /**
+     * @return Cache of users keyed by ID
+     */
+    public LruCache<Integer, User> getUserCache() {
+        return usersById;
+    }
+    
+    /**
+     * @return Cache of user IDs keyed by username, including negative entries
+     */
+    public LruCache<String, Integer> getUsernameCache() {
+        return idsByUsername;
+    }
+    
+    /**
+     * Usernames compare case-insensitively in the users table collation
+     */
+    private static String usernameKey(String username) {
+        return username == null ? null : username.toLowerCase(Locale.ROOT);
+    }
+    
+    private void cache(User user) {
+        usersById.put(user.getId(), new User(user), ttlMillis);
+        idsByUsername.put(usernameKey(user.getUsername()), user.getId(), ttlMillis);
+    }
+}
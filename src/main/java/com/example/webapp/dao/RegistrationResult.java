@@ -0,0 +1,17 @@
+package com.example.webapp.dao;
+
+/**
+ * Registration Result
+ * Outcome of a single-statement user registration
+ */
+public enum RegistrationResult {
+    
+    /** The user row was inserted and the generated ID assigned */
+    CREATED,
+    
+    /** The username is already taken (UNIQUE(username) rejected the insert) */
+    DUPLICATE_USERNAME,
+    
+    /** The insert failed for any other reason */
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.example.webapp.dao;
+
+import java.io.IOException;
+
+/**
+ * Row Handler
+ * Receives rows one at a time from a streaming query
+ * @param <T> Mapped row type
+ */
+public interface RowHandler<T> {
+    
+    /**
+     * Handle one row
+     * @param row Mapped row
+     * @throws IOException If the consumer cannot accept more rows; the query is cancelled
+     */
+    void handle(T row) throws IOException;
+}
@@ -0,0 +1,60 @@
+package com.example.webapp.dao;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.model.UserActivity;
+import com.example.webapp.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * User Activity Data Access Object
+ * Writes audit events to the user_activities table
+ */
+public class UserActivityDAO {
+    
+    private static final Logger LOG = LogManager.getLogger(UserActivityDAO.class);
+    
+    /**
+     * Insert activities with a single JDBC batch in one transaction
+     * @param activities Activities to insert
+     * @return Whether the batch was written
+     */
+    public boolean insertBatch(List<UserActivity> activities) {
+        if (activities.isEmpty()) {
+            return true;
+        }
+        // SQL Injection Protection - PreparedStatement implementation
+        String sql = "INSERT INTO user_activities (user_id, activity_type, activity_description, ip_address, created_at) VALUES (?, ?, ?, ?, ?)";
+        
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (UserActivity activity : activities) {
+                    stmt.setInt(1, activity.getUserId());
+                    stmt.setString(2, activity.getActivityType());
+                    stmt.setString(3, activity.getActivityDescription());
+                    stmt.setString(4, activity.getIpAddress());
+                    stmt.setTimestamp(5, Timestamp.valueOf(activity.getCreatedAt()));
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+                return true;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            LOG.error("Error occurred while writing user activities: {}", e.getMessage());
+        }
+        
+        return false;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.webapp.dao;
+
+import com.example.webapp.model.UserSummary;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * User Listing Cursor
+ * Position in the (created_at DESC, id DESC) user order; the next page starts
+ * strictly after it, so paging costs an index seek instead of an OFFSET scan
+ */
+public final class UserCursor {
+    
+    private final LocalDateTime createdAt;
+    private final int id;
+    
+    public UserCursor(LocalDateTime createdAt, int id) {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Cursor creation time cannot be null");
+        }
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+    
+    /**
+     * Create the cursor that continues after the given user
+     * @param user Last user of the current page
+     * @return Cursor positioned on that user
+     */
+    public static UserCursor after(UserSummary user) {
+        return new UserCursor(user.getCreatedAt(), user.getId());
+    }
+    
+    /**
+     * Parse a cursor produced by {@link #toString()}
+     * @param value Encoded cursor
+     * @return Cursor, null if the value is malformed
+     */
+    public static UserCursor parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        int separator = value.indexOf('_');
+        if (separator <= 0 || separator == value.length() - 1) {
+            return null;
+        }
+        try {
+            long millis = Long.parseLong(value.substring(0, separator));
+            int id = Integer.parseInt(value.substring(separator + 1));
+            return new UserCursor(new Timestamp(millis).toLocalDateTime(), id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * @return Opaque URL-safe form, "createdAtMillis_id"
+     */
+    @Override
+    public String toString() {
+        return Timestamp.valueOf(createdAt).getTime() + "_" + id;
+    }
+}
@@ -1,191 +1,491 @@
-package com.example.webapp.dao;
-
-import com.example.webapp.model.User;
-import com.example.webapp.util.DatabaseUtil;
-import com.example.webapp.util.PasswordUtil;
-
-import java.sql.*;
-import java.util.ArrayList;
-import java.util.List;
-
-/**
- * User Data Access Object
- * Handles user-related database operations
- */
-public class UserDAO {
-    
-    /**
-     * Find user by username
-     * @param username Username
-     * @return User object, null if not found
-     */
-    public User findByUsername(String username) {
-        // SQL Injection Protection - PreparedStatement implementation
-        String sql = "SELECT id, username, password, email, full_name, created_at FROM users WHERE username = ?";
-        
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, username);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToUser(rs);
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Error occurred while finding user: " + e.getMessage());
-        }
-        
-        return null;
-    }
-    
-    /**
-     * Validate user login with secure password verification
-     * @param username Username
-     * @param password Plain text password
-     * @return User object, null if validation fails
-     */
-    public User validateLogin(String username, String password) {
-        // SQL Injection Protection - PreparedStatement implementation
-        String sql = "SELECT id, username, password, email, full_name, created_at FROM users WHERE username = ?";
-        
-        System.out.println("Executing SQL query: " + sql);
-        System.out.println("Query parameters - Username: '" + username + "'");
-        
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, username);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    User user = mapResultSetToUser(rs);
-                    String storedPassword = user.getPassword();
-                    
-                    // Use secure password verification
-                    if (PasswordUtil.verifyPassword(password, storedPassword)) {
-                        System.out.println("Database query successful, user found: " + user.getUsername());
-                        // Clear password from user object before returning
-                        user.setPassword(null);
-                        return user;
-                    } else {
-                        System.out.println("Password verification failed for user: " + username);
-                    }
-                } else {
-                    System.out.println("Database query completed, no matching user found");
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Error occurred during login validation: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        return null;
-    }
-    
-    /**
-     * Create new user
-     * @param user User object
-     * @return Whether creation was successful
-     */
-    public boolean createUser(User user) {
-        // SQL Injection Protection - PreparedStatement implementation
-        String sql = "INSERT INTO users (username, password, email, full_name) VALUES (?, ?, ?, ?)";
-        
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            stmt.setString(1, user.getUsername());
-            stmt.setString(2, user.getPassword());
-            stmt.setString(3, user.getEmail());
-            stmt.setString(4, user.getFullName());
-            
-            int affectedRows = stmt.executeUpdate();
-            
-            if (affectedRows > 0) {
-                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        user.setId(generatedKeys.getInt(1));
-                    }
-                }
-                return true;
-            }
-        } catch (SQLException e) {
-            System.err.println("Error occurred while creating user: " + e.getMessage());
-        }
-        
-        return false;
-    }
-    
-    /**
-     * Get all users
-     * @return List of users
-     */
-    public List<User> getAllUsers() {
-        // SQL Injection Protection - PreparedStatement implementation
-        List<User> users = new ArrayList<>();
-        String sql = "SELECT id, username, password, email, full_name, created_at FROM users ORDER BY created_at DESC";
-        
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
-            
-            while (rs.next()) {
-                users.add(mapResultSetToUser(rs));
-            }
-        } catch (SQLException e) {
-            System.err.println("Error occurred while getting user list: " + e.getMessage());
-        }
-        
-        return users;
-    }
-    
-    /**
-     * Find user by ID
-     * @param id User ID
-     * @return User object, null if not found
-     */
-    public User findById(int id) {
-        // SQL Injection Protection - PreparedStatement implementation
-        String sql = "SELECT id, username, password, email, full_name, created_at FROM users WHERE id = ?";
-        
-        try (Connection conn = DatabaseUtil.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setInt(1, id);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToUser(rs);
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Error occurred while finding user by ID: " + e.getMessage());
-        }
-        
-        return null;
-    }
-    
-    /**
-     * Map ResultSet to User object
-     * @param rs ResultSet object
-     * @return User object
-     * @throws SQLException SQL exception
-     */
-    private User mapResultSetToUser(ResultSet rs) throws SQLException {
-        User user = new User();
-        user.setId(rs.getInt("id"));
-        user.setUsername(rs.getString("username"));
-        user.setPassword(rs.getString("password"));
-        user.setEmail(rs.getString("email"));
-        user.setFullName(rs.getString("full_name"));
-        
-        Timestamp timestamp = rs.getTimestamp("created_at");
-        if (timestamp != null) {
-            user.setCreatedAt(timestamp.toLocalDateTime());
-        }
-        
-        return user;
-    }
-}
+package com.example.webapp.dao;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.metrics.LatencyHistogram;
+import com.example.webapp.metrics.MetricsRegistry;
+import com.example.webapp.model.User;
+import com.example.webapp.model.UserSummary;
+import com.example.webapp.util.DatabaseUtil;
+import com.example.webapp.util.PasswordHashExecutor;
+import com.example.webapp.util.PasswordUtil;
+
+import java.io.IOException;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * User Data Access Object
+ * Handles user-related database operations
+ * Reads declare their intent through DatabaseUtil.getReadConnection so they can be
+ * served by read replicas; writes record the rows they touched so the writer's
+ * own reads of them stay consistent.
+ */
+// Timer samples are try-with-resources variables that are only ever closed
+@SuppressWarnings("try")
+public class UserDAO {
+    
+    private static final Logger LOG = LogManager.getLogger(UserDAO.class);
+    
+    // Rows fetched per round trip when streaming from drivers without MySQL's row streaming
+    private static final int STREAM_FETCH_SIZE = 500;
+    
+    // Statement registry - every SQL string this DAO prepares. Reusing the same
+    // text lets pooled connections serve repeat prepares from their statement cache.
+    // Only the credentials query selects the password hash; every other query uses
+    // the summary projection so the 60-byte hash never leaves the database.
+    private static final String USER_COLUMNS = "id, username, email, full_name, created_at, updated_at";
+    private static final String SQL_FIND_CREDENTIALS = "SELECT " + USER_COLUMNS + ", password FROM users WHERE username = ?";
+    private static final String SQL_FIND_BY_USERNAME = "SELECT " + USER_COLUMNS + " FROM users WHERE username = ?";
+    private static final String SQL_FIND_BY_ID = "SELECT " + USER_COLUMNS + " FROM users WHERE id = ?";
+    private static final String SQL_FIND_BY_ID_IF_NEWER = "SELECT " + USER_COLUMNS + " FROM users WHERE id = ? AND updated_at > ?";
+    private static final String SQL_FIND_ALL = "SELECT " + USER_COLUMNS + " FROM users ORDER BY created_at DESC, id DESC";
+    private static final String SQL_FIND_FIRST_PAGE = "SELECT " + USER_COLUMNS + " FROM users ORDER BY created_at DESC, id DESC LIMIT ?";
+    // Expanded form of (created_at, id) < (?, ?) so MySQL runs it as a range scan on idx_users_created_at_id
+    private static final String SQL_FIND_PAGE_AFTER = "SELECT " + USER_COLUMNS + " FROM users"
+        + " WHERE created_at < ? OR (created_at = ? AND id < ?) ORDER BY created_at DESC, id DESC LIMIT ?";
+    private static final String SQL_COUNT_USERS = "SELECT COUNT(*) FROM users";
+    private static final String SQL_INSERT_USER = "INSERT INTO users (username, password, email, full_name) VALUES (?, ?, ?, ?)";
+    private static final String SQL_UPDATE_PASSWORD = "UPDATE users SET password = ? WHERE id = ? AND password = ?";
+    
+    // Latency of each public query method, including connection borrow and result mapping
+    private static final LatencyHistogram FIND_BY_USERNAME_TIMER = queryTimer("findByUsername");
+    private static final LatencyHistogram FIND_CREDENTIALS_TIMER = queryTimer("findCredentials");
+    private static final LatencyHistogram UPDATE_PASSWORD_TIMER = queryTimer("updatePassword");
+    private static final LatencyHistogram REGISTER_USER_TIMER = queryTimer("registerUser");
+    private static final LatencyHistogram GET_ALL_USERS_TIMER = queryTimer("getAllUsers");
+    private static final LatencyHistogram FIND_PAGE_TIMER = queryTimer("findPage");
+    private static final LatencyHistogram STREAM_ALL_USERS_TIMER = queryTimer("streamAllUsers");
+    private static final LatencyHistogram COUNT_USERS_TIMER = queryTimer("countUsers");
+    private static final LatencyHistogram FIND_BY_ID_TIMER = queryTimer("findById");
+    private static final LatencyHistogram FIND_BY_ID_IF_NEWER_TIMER = queryTimer("findByIdIfNewer");
+    
+    /**
+     * Find user by username
+     * @param username Username
+     * @return User object, null if not found
+     */
+    public User findByUsername(String username) {
+        // SQL Injection Protection - PreparedStatement implementation
+        try (LatencyHistogram.Sample sample = FIND_BY_USERNAME_TIMER.start();
+             Connection conn = DatabaseUtil.getReadConnection(usernameKey(username));
+             PreparedStatement stmt = conn.prepareStatement(SQL_FIND_BY_USERNAME)) {
+            
+            stmt.setString(1, username);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToUser(rs);
+                }
+            }
+        } catch (SQLException e) {
+            FIND_BY_USERNAME_TIMER.recordError();
+            LOG.error("Error occurred while finding user: {}", e.getMessage());
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Validate user login with secure password verification
+     * Runs the lookup and BCrypt on the calling thread; request handlers that
+     * move hashing to PasswordHashExecutor call findCredentials and verifyLogin.
+     * @param username Username
+     * @param password Plain text password
+     * @return User object, null if validation fails
+     */
+    public User validateLogin(String username, String password) {
+        User credentials = findCredentials(username);
+        return credentials == null ? null : verifyLogin(credentials, password);
+    }
+    
+    /**
+     * Look up the stored credentials for a login
+     * Only the database round trip; the password check is left to verifyLogin.
+     * @param username Username
+     * @return User whose password field holds the stored hash, null if not found or on error
+     */
+    public User findCredentials(String username) {
+        // SQL Injection Protection - PreparedStatement implementation
+        try (LatencyHistogram.Sample sample = FIND_CREDENTIALS_TIMER.start();
+             Connection conn = DatabaseUtil.getReadConnection(usernameKey(username));
+             PreparedStatement stmt = conn.prepareStatement(SQL_FIND_CREDENTIALS)) {
+            
+            stmt.setString(1, username);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    User user = mapResultSetToUser(rs);
+                    user.setPassword(rs.getString("password"));
+                    return user;
+                }
+            }
+        } catch (SQLException e) {
+            FIND_CREDENTIALS_TIMER.recordError();
+            LOG.error("Error occurred during login validation", e);
+            return null;
+        }
+        
+        LOG.debug("No user found for login: {}", username);
+        return null;
+    }
+    
+    /**
+     * Check a password against credentials from findCredentials
+     * CPU-bound BCrypt work without database access. Schedules a background
+     * rehash when the stored hash is weaker than the active policy.
+     * @param credentials User returned by findCredentials
+     * @param password Plain text password
+     * @return The user with its password hash cleared, null if the password does not match
+     */
+    public User verifyLogin(User credentials, String password) {
+        String storedPassword = credentials.getPassword();
+        if (!PasswordUtil.verifyPassword(password, storedPassword)) {
+            LOG.debug("Password verification failed for user: {}", credentials.getUsername());
+            return null;
+        }
+        
+        LOG.debug("Credentials verified for user: {}", credentials.getUsername());
+        if (PasswordUtil.needsRehash(storedPassword)) {
+            scheduleRehash(credentials.getId(), credentials.getUsername(), password, storedPassword);
+        }
+        credentials.setPassword(null);
+        return credentials;
+    }
+    
+    /**
+     * Upgrade a stored hash to the active hash policy in the background.
+     * Skipped when the hashing executor is saturated; the next login retries.
+     * @param userId User ID
+     * @param username Username the credentials were read by
+     * @param password Verified plain text password
+     * @param storedPassword Hash currently stored for the user
+     */
+    private void scheduleRehash(int userId, String username, String password, String storedPassword) {
+        try {
+            PasswordHashExecutor.getInstance().submit(() -> {
+                if (updatePassword(userId, storedPassword, PasswordUtil.hashPassword(password))) {
+                    DatabaseUtil.recordWrite(usernameKey(username));
+                    LOG.info("Password hash upgraded for user ID: {}", userId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Password rehash deferred, hashing executor is busy");
+        }
+    }
+    
+    /**
+     * Replace a user's password hash if it still matches the expected value
+     * @param userId User ID
+     * @param expectedPassword Hash that must currently be stored
+     * @param newPassword New hash
+     * @return Whether the hash was replaced
+     */
+    public boolean updatePassword(int userId, String expectedPassword, String newPassword) {
+        // Compare-and-set so a concurrent password change is never overwritten
+        try (LatencyHistogram.Sample sample = UPDATE_PASSWORD_TIMER.start();
+             Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SQL_UPDATE_PASSWORD)) {
+            
+            stmt.setString(1, newPassword);
+            stmt.setInt(2, userId);
+            stmt.setString(3, expectedPassword);
+            
+            if (stmt.executeUpdate() > 0) {
+                DatabaseUtil.recordWrite(userKey(userId));
+                return true;
+            }
+        } catch (SQLException e) {
+            UPDATE_PASSWORD_TIMER.recordError();
+            LOG.error("Error occurred while updating password: {}", e.getMessage());
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Create new user
+     * @param user User object
+     * @return Whether creation was successful
+     */
+    public boolean createUser(User user) {
+        return registerUser(user) == RegistrationResult.CREATED;
+    }
+    
+    /**
+     * Register a new user with a single INSERT
+     * Relies on the UNIQUE(username) constraint instead of a prior lookup, so
+     * concurrent registrations of the same name cannot both pass a check.
+     * @param user User object; its ID is set when the insert succeeds
+     * @return CREATED, DUPLICATE_USERNAME, or FAILED
+     */
+    public RegistrationResult registerUser(User user) {
+        // SQL Injection Protection - PreparedStatement implementation
+        try (LatencyHistogram.Sample sample = REGISTER_USER_TIMER.start();
+             Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SQL_INSERT_USER, Statement.RETURN_GENERATED_KEYS)) {
+            
+            stmt.setString(1, user.getUsername());
+            stmt.setString(2, user.getPassword());
+            stmt.setString(3, user.getEmail());
+            stmt.setString(4, user.getFullName());
+            
+            int affectedRows = stmt.executeUpdate();
+            
+            if (affectedRows > 0) {
+                try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        user.setId(generatedKeys.getInt(1));
+                    }
+                }
+                DatabaseUtil.recordWrite(usernameKey(user.getUsername()));
+                DatabaseUtil.recordWrite(userKey(user.getId()));
+                return RegistrationResult.CREATED;
+            }
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // username is the only unique column and every column is supplied
+            return RegistrationResult.DUPLICATE_USERNAME;
+        } catch (SQLException e) {
+            REGISTER_USER_TIMER.recordError();
+            LOG.error("Error occurred while creating user: {}", e.getMessage());
+        }
+        
+        return RegistrationResult.FAILED;
+    }
+    
+    /**
+     * Get all users
+     * @return List of users
+     */
+    public List<User> getAllUsers() {
+        // SQL Injection Protection - PreparedStatement implementation
+        List<User> users = new ArrayList<>();
+        
+        try (LatencyHistogram.Sample sample = GET_ALL_USERS_TIMER.start();
+             Connection conn = DatabaseUtil.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(SQL_FIND_ALL);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            while (rs.next()) {
+                users.add(mapResultSetToUser(rs));
+            }
+        } catch (SQLException e) {
+            GET_ALL_USERS_TIMER.recordError();
+            LOG.error("Error occurred while getting user list: {}", e.getMessage());
+        }
+        
+        return users;
+    }
+    
+    /**
+     * Get one page of users, newest first
+     * Keyset pagination on (created_at, id): each page is an index range scan
+     * no matter how deep the caller pages.
+     * @param after Cursor of the last user on the previous page, null for the first page
+     * @param limit Maximum number of users to return
+     * @return Users ordered by created_at DESC, id DESC; empty on error
+     */
+    public List<UserSummary> findPage(UserCursor after, int limit) {
+        List<UserSummary> users = new ArrayList<>(Math.min(limit, 1000));
+        
+        try (LatencyHistogram.Sample sample = FIND_PAGE_TIMER.start();
+             Connection conn = DatabaseUtil.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(after == null ? SQL_FIND_FIRST_PAGE : SQL_FIND_PAGE_AFTER)) {
+            
+            if (after == null) {
+                stmt.setInt(1, limit);
+            } else {
+                Timestamp createdAt = Timestamp.valueOf(after.getCreatedAt());
+                stmt.setTimestamp(1, createdAt);
+                stmt.setTimestamp(2, createdAt);
+                stmt.setInt(3, after.getId());
+                stmt.setInt(4, limit);
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    users.add(mapResultSetToSummary(rs));
+                }
+            }
+        } catch (SQLException e) {
+            FIND_PAGE_TIMER.recordError();
+            LOG.error("Error occurred while getting user page: {}", e.getMessage());
+        }
+        
+        return users;
+    }
+    
+    /**
+     * Walk all users, newest first, without buffering the table in memory
+     * On MySQL the rows are streamed from the server one at a time; the
+     * connection stays borrowed until the walk finishes.
+     * @param handler Receives each user
+     * @return Number of users handled, -1 if the query failed
+     * @throws IOException If the handler fails; the query is cancelled
+     */
+    public long streamAllUsers(RowHandler<UserSummary> handler) throws IOException {
+        long count = 0;
+        
+        try (LatencyHistogram.Sample sample = STREAM_ALL_USERS_TIMER.start();
+             Connection conn = DatabaseUtil.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(SQL_FIND_ALL,
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            // Connector/J only streams with this sentinel; other drivers get a bounded fetch size
+            boolean mysql = "MySQL".equalsIgnoreCase(conn.getMetaData().getDatabaseProductName());
+            stmt.setFetchSize(mysql ? Integer.MIN_VALUE : STREAM_FETCH_SIZE);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(mapResultSetToSummary(rs));
+                    count++;
+                }
+            } catch (IOException e) {
+                // Closing a streaming result set drains the remaining rows; stop the server first
+                stmt.cancel();
+                throw e;
+            }
+        } catch (SQLException e) {
+            STREAM_ALL_USERS_TIMER.recordError();
+            LOG.error("Error occurred while streaming users: {}", e.getMessage());
+            return -1;
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Count all users
+     * @return Number of users, -1 if the query failed
+     */
+    public int countUsers() {
+        try (LatencyHistogram.Sample sample = COUNT_USERS_TIMER.start();
+             Connection conn = DatabaseUtil.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(SQL_COUNT_USERS);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+        } catch (SQLException e) {
+            COUNT_USERS_TIMER.recordError();
+            LOG.error("Error occurred while counting users: {}", e.getMessage());
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Find user by ID
+     * @param id User ID
+     * @return User object, null if not found
+     */
+    public User findById(int id) {
+        // SQL Injection Protection - PreparedStatement implementation
+        try (LatencyHistogram.Sample sample = FIND_BY_ID_TIMER.start();
+             Connection conn = DatabaseUtil.getReadConnection(userKey(id));
+             PreparedStatement stmt = conn.prepareStatement(SQL_FIND_BY_ID)) {
+            
+            stmt.setInt(1, id);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToUser(rs);
+                }
+            }
+        } catch (SQLException e) {
+            FIND_BY_ID_TIMER.recordError();
+            LOG.error("Error occurred while finding user by ID: {}", e.getMessage());
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Find user by ID only if the stored row is newer than the given version
+     * @param id User ID
+     * @param version Last known updated_at in epoch milliseconds
+     * @return Newer User object, null if unchanged, not found or on error
+     */
+    public User findByIdIfNewer(int id, long version) {
+        try (LatencyHistogram.Sample sample = FIND_BY_ID_IF_NEWER_TIMER.start();
+             Connection conn = DatabaseUtil.getReadConnection(userKey(id));
+             PreparedStatement stmt = conn.prepareStatement(SQL_FIND_BY_ID_IF_NEWER)) {
+            
+            stmt.setInt(1, id);
+            stmt.setTimestamp(2, new Timestamp(version));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToUser(rs);
+                }
+            }
+        } catch (SQLException e) {
+            FIND_BY_ID_IF_NEWER_TIMER.recordError();
+            LOG.error("Error occurred while checking user version: {}", e.getMessage());
+        }
+        
+        return null;
+    }
+    
+    private static LatencyHistogram queryTimer(String method) {
+        return MetricsRegistry.getInstance().timer("db_query_duration_seconds",
+            "UserDAO method latency", "method", method);
+    }
+    
+    /**
+     * Read-your-writes key of a user row looked up by ID
+     */
+    private static String userKey(int id) {
+        return "user:" + id;
+    }
+    
+    /**
+     * Read-your-writes key of a user row looked up by username (case-insensitive like the column)
+     */
+    private static String usernameKey(String username) {
+        return "username:" + (username == null ? "" : username.toLowerCase(Locale.ROOT));
+    }
+    
+    /**
+     * Map ResultSet to User object
+     * The password hash is not part of the projection and stays null
+     * @param rs ResultSet object
+     * @return User object
+     * @throws SQLException SQL exception
+     */
+    User mapResultSetToUser(ResultSet rs) throws SQLException {
+        User user = new User();
+        user.setId(rs.getInt("id"));
+        user.setUsername(rs.getString("username"));
+        user.setEmail(rs.getString("email"));
+        user.setFullName(rs.getString("full_name"));
+        user.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        user.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        return user;
+    }
+    
+    /**
+     * Map ResultSet to UserSummary object
+     * @param rs ResultSet object
+     * @return UserSummary object
+     * @throws SQLException SQL exception
+     */
+    UserSummary mapResultSetToSummary(ResultSet rs) throws SQLException {
+        return new UserSummary(
+            rs.getInt("id"),
+            rs.getString("username"),
+            rs.getString("email"),
+            rs.getString("full_name"),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            toLocalDateTime(rs.getTimestamp("updated_at")));
+    }
+    
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
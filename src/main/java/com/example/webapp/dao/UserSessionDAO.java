@@ -0,0 +1,196 @@
+package com.example.webapp.dao;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.model.UserSession;
+import com.example.webapp.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * User Session Data Access Object
+ * Persists login session metadata in the user_sessions table
+ */
+public class UserSessionDAO {
+    
+    private static final Logger LOG = LogManager.getLogger(UserSessionDAO.class);
+    
+    /**
+     * Insert or refresh sessions in one batch
+     * @param sessions Sessions to save
+     * @return Whether the batch was written
+     */
+    public boolean saveBatch(Collection<UserSession> sessions) {
+        if (sessions.isEmpty()) {
+            return true;
+        }
+        // SQL Injection Protection - PreparedStatement implementation
+        String sql = "INSERT INTO user_sessions (id, user_id, created_at, last_accessed, ip_address, user_agent) VALUES (?, ?, ?, ?, ?, ?) "
+                   + "ON DUPLICATE KEY UPDATE last_accessed = VALUES(last_accessed)";
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            for (UserSession session : sessions) {
+                stmt.setString(1, session.getId());
+                stmt.setInt(2, session.getUserId());
+                stmt.setTimestamp(3, Timestamp.valueOf(session.getCreatedAt()));
+                stmt.setTimestamp(4, Timestamp.valueOf(session.getLastAccessed()));
+                stmt.setString(5, session.getIpAddress());
+                stmt.setString(6, session.getUserAgent());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            return true;
+        } catch (SQLException e) {
+            LOG.error("Error occurred while saving sessions: {}", e.getMessage());
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Update last_accessed for many sessions in one batch
+     * @param lastAccessed Last access time in epoch milliseconds keyed by session ID
+     * @return Whether the batch was written
+     */
+    public boolean touchBatch(Map<String, Long> lastAccessed) {
+        if (lastAccessed.isEmpty()) {
+            return true;
+        }
+        String sql = "UPDATE user_sessions SET last_accessed = ? WHERE id = ?";
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            for (Map.Entry<String, Long> entry : lastAccessed.entrySet()) {
+                stmt.setTimestamp(1, new Timestamp(entry.getValue()));
+                stmt.setString(2, entry.getKey());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            return true;
+        } catch (SQLException e) {
+            LOG.error("Error occurred while updating session access times: {}", e.getMessage());
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Delete sessions in one batch
+     * @param sessionIds Session IDs
+     * @return Whether the batch was written
+     */
+    public boolean deleteBatch(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return true;
+        }
+        String sql = "DELETE FROM user_sessions WHERE id = ?";
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            for (String sessionId : sessionIds) {
+                stmt.setString(1, sessionId);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            return true;
+        } catch (SQLException e) {
+            LOG.error("Error occurred while deleting sessions: {}", e.getMessage());
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Delete sessions not accessed since the given time
+     * @param cutoff Epoch milliseconds
+     * @return Number of deleted sessions, -1 on error
+     */
+    public int deleteExpired(long cutoff) {
+        String sql = "DELETE FROM user_sessions WHERE last_accessed < ?";
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setTimestamp(1, new Timestamp(cutoff));
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            LOG.error("Error occurred while deleting expired sessions: {}", e.getMessage());
+        }
+        
+        return -1;
+    }
+    
+    /**
+     * Find a session accessed after the given time
+     * @param sessionId Session ID
+     * @param accessedAfter Epoch milliseconds
+     * @return UserSession object, null if not found or expired
+     */
+    public UserSession findActive(String sessionId, long accessedAfter) {
+        String sql = "SELECT id, user_id, created_at, last_accessed, ip_address, user_agent FROM user_sessions WHERE id = ? AND last_accessed >= ?";
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setString(1, sessionId);
+            stmt.setTimestamp(2, new Timestamp(accessedAfter));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    UserSession session = new UserSession();
+                    session.setId(rs.getString("id"));
+                    session.setUserId(rs.getInt("user_id"));
+                    session.setIpAddress(rs.getString("ip_address"));
+                    session.setUserAgent(rs.getString("user_agent"));
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    if (createdAt != null) {
+                        session.setCreatedAt(createdAt.toLocalDateTime());
+                    }
+                    Timestamp lastAccessed = rs.getTimestamp("last_accessed");
+                    if (lastAccessed != null) {
+                        session.setLastAccessed(lastAccessed.toLocalDateTime());
+                    }
+                    return session;
+                }
+            }
+        } catch (SQLException e) {
+            LOG.error("Error occurred while finding session: {}", e.getMessage());
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Move a persisted session to a new session ID
+     * @param oldId Previous session ID
+     * @param newId New session ID
+     * @param lastAccessed Access time in epoch milliseconds
+     * @return Whether the session was moved
+     */
+    public boolean rekey(String oldId, String newId, long lastAccessed) {
+        String sql = "UPDATE user_sessions SET id = ?, last_accessed = ? WHERE id = ?";
+        
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setString(1, newId);
+            stmt.setTimestamp(2, new Timestamp(lastAccessed));
+            stmt.setString(3, oldId);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            LOG.error("Error occurred while moving session: {}", e.getMessage());
+        }
+        
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.webapp.filter;
+
+import com.example.webapp.security.AuthToken;
+import com.example.webapp.security.AuthTokenService;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * Authentication Token Filter
+ * In token mode, verifies the signed login cookie once per request and
+ * exposes the claims to servlets as a request attribute.
+ * Does nothing in session mode.
+ */
+public class AuthTokenFilter implements Filter {
+    
+    public static final String TOKEN_ATTRIBUTE = "com.example.webapp.authToken";
+    
+    private AuthTokenService tokenService;
+    
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        tokenService = AuthTokenService.getInstance();
+    }
+    
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (tokenService.isTokenMode() && request instanceof HttpServletRequest) {
+            AuthToken token = tokenService.verify((HttpServletRequest) request);
+            if (token != null) {
+                request.setAttribute(TOKEN_ATTRIBUTE, token);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+    
+    @Override
+    public void destroy() {
+    }
+    
+    /**
+     * Get the verified token of the current request
+     * @param request Current request
+     * @return Claims, null if there is no valid token
+     */
+    public static AuthToken getToken(ServletRequest request) {
+        return (AuthToken) request.getAttribute(TOKEN_ATTRIBUTE);
+    }
+}
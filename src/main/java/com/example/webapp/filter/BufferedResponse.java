@@ -0,0 +1,230 @@
+package com.example.webapp.filter;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Buffered Response
+ * Captures the response body in memory so it can be hashed and compressed
+ * before anything is sent. Falls back to writing straight through once the
+ * body outgrows the buffer limit, or when the response is an error or
+ * redirect, or goes asynchronous.
+ */
+class BufferedResponse extends HttpServletResponseWrapper {
+    
+    private final int maxBufferSize;
+    private byte[] buffer = new byte[8192];
+    private int count;
+    private boolean passThrough;
+    private boolean discarding;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    
+    BufferedResponse(HttpServletResponse response, int maxBufferSize) {
+        super(response);
+        this.maxBufferSize = maxBufferSize;
+    }
+    
+    /**
+     * @return true if the body is (or was) written straight to the client
+     */
+    boolean isPassThrough() {
+        return passThrough;
+    }
+    
+    /**
+     * @return Captured body; valid up to getBodyLength()
+     */
+    byte[] getBody() {
+        return buffer;
+    }
+    
+    int getBodyLength() {
+        return count;
+    }
+    
+    /**
+     * Push everything written so far through the writer into the buffer
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+    
+    /**
+     * Stop buffering: send what was captured and write the rest directly
+     */
+    void switchToPassThrough() throws IOException {
+        if (passThrough) {
+            return;
+        }
+        passThrough = true;
+        if (count > 0) {
+            getResponse().getOutputStream().write(buffer, 0, count);
+        }
+        buffer = null;
+        count = 0;
+    }
+    
+    /**
+     * Drop the captured body, including characters still pending in the writer
+     * The servlet spec has sendError, sendRedirect and the resets discard uncommitted content.
+     */
+    private void discardBody() {
+        discarding = true;
+        try {
+            flushWriter();
+        } finally {
+            discarding = false;
+        }
+        count = 0;
+    }
+    
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        if (outputStream == null) {
+            outputStream = new CapturingStream();
+        }
+        return outputStream;
+    }
+    
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            writer = new PrintWriter(new OutputStreamWriter(new CapturingStream(), charset));
+        }
+        return writer;
+    }
+    
+    @Override
+    public void sendError(int sc) throws IOException {
+        discardBody();
+        switchToPassThrough();
+        super.sendError(sc);
+    }
+    
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        discardBody();
+        switchToPassThrough();
+        super.sendError(sc, msg);
+    }
+    
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        discardBody();
+        switchToPassThrough();
+        super.sendRedirect(location);
+    }
+    
+    @Override
+    public void setContentLength(int len) {
+        if (passThrough) {
+            super.setContentLength(len);
+        }
+    }
+    
+    @Override
+    public void setContentLengthLong(long len) {
+        if (passThrough) {
+            super.setContentLengthLong(len);
+        }
+    }
+    
+    @Override
+    public void flushBuffer() throws IOException {
+        if (passThrough) {
+            flushWriter();
+            super.flushBuffer();
+        }
+    }
+    
+    @Override
+    public boolean isCommitted() {
+        return passThrough && super.isCommitted();
+    }
+    
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        discardBody();
+    }
+    
+    @Override
+    public void reset() {
+        super.reset();
+        discardBody();
+    }
+    
+    private void append(byte[] data, int offset, int length) throws IOException {
+        if (discarding) {
+            return;
+        }
+        if (passThrough) {
+            getResponse().getOutputStream().write(data, offset, length);
+            return;
+        }
+        if (count + length > maxBufferSize) {
+            switchToPassThrough();
+            getResponse().getOutputStream().write(data, offset, length);
+            return;
+        }
+        if (count + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.min(maxBufferSize, Math.max(buffer.length * 2, count + length)));
+        }
+        System.arraycopy(data, offset, buffer, count, length);
+        count += length;
+    }
+    
+    /**
+     * Output stream feeding the buffer
+     */
+    private final class CapturingStream extends ServletOutputStream {
+        private final byte[] single = new byte[1];
+        
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            append(single, 0, 1);
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            append(b, off, len);
+        }
+        
+        @Override
+        public void flush() throws IOException {
+            if (passThrough) {
+                getResponse().getOutputStream().flush();
+            }
+        }
+        
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+        
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Non-blocking output is not supported by this filter");
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.webapp.filter;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+
+import javax.servlet.*;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compression Filter
+ * Buffers page output, tags it with a strong ETag, answers matching
+ * If-None-Match requests with 304 Not Modified, and gzip/deflate encodes
+ * text bodies above a size threshold. Each mapping of the filter in web.xml
+ * can use its own init-params:
+ *   compression-threshold  minimum body size in bytes to compress (1024)
+ *   compression-level      deflate level 1-9 (6)
+ *   cache-control          Cache-Control value when the page sets none
+ *   etag                   true to emit ETags and honour If-None-Match (true)
+ *   max-buffer-size        larger bodies are streamed unmodified (262144)
+ */
+public class CompressionFilter implements Filter {
+    
+    private static final Logger LOG = LogManager.getLogger(CompressionFilter.class);
+    
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final byte[] GZIP_HEADER = {
+        (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+    
+    private int compressionThreshold;
+    private int maxBufferSize;
+    private String cacheControl;
+    private boolean etagEnabled;
+    private DeflaterPool gzipDeflaters;
+    private DeflaterPool zlibDeflaters;
+    
+    /** Per-thread output buffer for compressed bodies */
+    private final ThreadLocal<byte[]> compressBuffer = ThreadLocal.withInitial(() -> new byte[16384]);
+    
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        compressionThreshold = intParam(filterConfig, "compression-threshold", 1024);
+        int level = Math.max(1, Math.min(9, intParam(filterConfig, "compression-level", 6)));
+        maxBufferSize = intParam(filterConfig, "max-buffer-size", 262144);
+        cacheControl = filterConfig.getInitParameter("cache-control");
+        String etag = filterConfig.getInitParameter("etag");
+        etagEnabled = etag == null || Boolean.parseBoolean(etag.trim());
+        
+        int poolSize = Runtime.getRuntime().availableProcessors() * 2;
+        gzipDeflaters = new DeflaterPool(level, true, poolSize);
+        zlibDeflaters = new DeflaterPool(level, false, poolSize);
+    }
+    
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        
+        if (!(request instanceof HttpServletRequest) || !(response instanceof HttpServletResponse)
+                || !"GET".equals(((HttpServletRequest) request).getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        BufferedResponse buffered = new BufferedResponse(httpResponse, maxBufferSize);
+        
+        try {
+            chain.doFilter(request, buffered);
+        } finally {
+            buffered.flushWriter();
+            if (request.isAsyncStarted()) {
+                // The body will be written after this thread returns
+                buffered.switchToPassThrough();
+            }
+        }
+        
+        if (buffered.isPassThrough()) {
+            return;
+        }
+        
+        byte[] body = buffered.getBody();
+        int length = buffered.getBodyLength();
+        if (buffered.getStatus() != HttpServletResponse.SC_OK) {
+            writeIdentity(httpResponse, body, length);
+            return;
+        }
+        
+        if (cacheControl != null && !httpResponse.containsHeader("Cache-Control")) {
+            httpResponse.setHeader("Cache-Control", cacheControl);
+        }
+        
+        String encoding = null;
+        if (length >= compressionThreshold && isCompressible(httpResponse.getContentType())
+                && !httpResponse.containsHeader("Content-Encoding")) {
+            httpResponse.addHeader("Vary", "Accept-Encoding");
+            encoding = negotiateEncoding(httpRequest.getHeader("Accept-Encoding"));
+        }
+        
+        CRC32 crc = new CRC32();
+        crc.update(body, 0, length);
+        
+        if (etagEnabled && !httpResponse.containsHeader("ETag")) {
+            String etag = buildETag(crc.getValue(), length, encoding);
+            httpResponse.setHeader("ETag", etag);
+            if (matches(httpRequest.getHeader("If-None-Match"), etag)) {
+                httpResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        
+        if (encoding == null) {
+            writeIdentity(httpResponse, body, length);
+        } else if ("gzip".equals(encoding)) {
+            writeCompressed(httpResponse, encoding, body, length, gzipDeflaters, crc);
+        } else {
+            writeCompressed(httpResponse, encoding, body, length, zlibDeflaters, null);
+        }
+    }
+    
+    @Override
+    public void destroy() {
+        if (gzipDeflaters != null) {
+            gzipDeflaters.close();
+        }
+        if (zlibDeflaters != null) {
+            zlibDeflaters.close();
+        }
+    }
+    
+    /**
+     * Send the captured body unchanged
+     */
+    private void writeIdentity(HttpServletResponse response, byte[] body, int length) throws IOException {
+        response.setContentLength(length);
+        if (length > 0) {
+            response.getOutputStream().write(body, 0, length);
+        }
+    }
+    
+    /**
+     * Deflate the body into the thread's buffer and send it with a known length
+     * @param crc CRC of the body for the gzip trailer, or null for zlib output
+     */
+    private void writeCompressed(HttpServletResponse response, String encoding, byte[] body, int length,
+                                 DeflaterPool pool, CRC32 crc) throws IOException {
+        
+        boolean gzip = crc != null;
+        byte[] out = compressBuffer.get();
+        int outLength;
+        
+        Deflater deflater = pool.borrow();
+        try {
+            deflater.setInput(body, 0, length);
+            deflater.finish();
+            
+            outLength = gzip ? GZIP_HEADER.length : 0;
+            while (!deflater.finished()) {
+                if (outLength == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+                outLength += deflater.deflate(out, outLength, out.length - outLength);
+            }
+        } finally {
+            pool.release(deflater);
+        }
+        
+        if (gzip) {
+            if (outLength + 8 > out.length) {
+                out = Arrays.copyOf(out, outLength + 8);
+            }
+            System.arraycopy(GZIP_HEADER, 0, out, 0, GZIP_HEADER.length);
+            writeIntLE(out, outLength, (int) crc.getValue());
+            writeIntLE(out, outLength + 4, length);
+            outLength += 8;
+        }
+        
+        // Keep the grown buffer for the next response unless it is unusually large
+        if (out.length <= maxBufferSize) {
+            compressBuffer.set(out);
+        }
+        
+        response.setHeader("Content-Encoding", encoding);
+        response.setContentLength(outLength);
+        response.getOutputStream().write(out, 0, outLength);
+    }
+    
+    private static void writeIntLE(byte[] buf, int offset, int value) {
+        buf[offset] = (byte) value;
+        buf[offset + 1] = (byte) (value >> 8);
+        buf[offset + 2] = (byte) (value >> 16);
+        buf[offset + 3] = (byte) (value >> 24);
+    }
+    
+    /**
+     * Strong ETag from the body checksum and length. Each content coding gets
+     * its own tag because the encoded representations differ byte for byte.
+     */
+    private static String buildETag(long crc, int length, String encoding) {
+        StringBuilder etag = new StringBuilder(32).append('"')
+                .append(Long.toHexString(crc)).append('-').append(Integer.toHexString(length));
+        if (encoding != null) {
+            etag.append('-').append(encoding);
+        }
+        return etag.append('"').toString();
+    }
+    
+    /**
+     * Weak comparison of If-None-Match against the current tag (RFC 7232 3.2)
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if ("*".equals(candidate)) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Pick gzip or deflate from Accept-Encoding, honouring q=0
+     * @return Chosen coding, or null to send the body unencoded
+     */
+    static String negotiateEncoding(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean deflate = false;
+        for (String part : acceptEncoding.split(",")) {
+            String token = part.trim();
+            int semicolon = token.indexOf(';');
+            String coding = (semicolon >= 0 ? token.substring(0, semicolon) : token).trim().toLowerCase();
+            if (semicolon >= 0 && isZeroQuality(token.substring(semicolon + 1))) {
+                continue;
+            }
+            if ("gzip".equals(coding) || "x-gzip".equals(coding) || "*".equals(coding)) {
+                return "gzip";
+            }
+            if ("deflate".equals(coding)) {
+                deflate = true;
+            }
+        }
+        return deflate ? "deflate" : null;
+    }
+    
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Text formats compress well; images and archives are already compressed
+     */
+    private static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase();
+        return type.startsWith("text/") || type.contains("json") || type.contains("javascript")
+                || type.contains("xml") || type.contains("svg");
+    }
+    
+    private static int intParam(FilterConfig config, String name, int defaultValue) {
+        String value = config.getInitParameter(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid value for {} on {}: {}", name, config.getFilterName(), value);
+            return defaultValue;
+        }
+    }
+}
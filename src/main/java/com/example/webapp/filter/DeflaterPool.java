@@ -0,0 +1,58 @@
+package com.example.webapp.filter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Deflater Pool
+ * Deflaters hold native zlib memory that is only released by end(), so
+ * creating one per response is expensive and leaks until finalization.
+ * Idle deflaters are kept in a bounded queue; extra ones are ended on return.
+ */
+class DeflaterPool {
+    
+    private final int level;
+    private final boolean nowrap;
+    private final ArrayBlockingQueue<Deflater> idle;
+    
+    /**
+     * Create pool
+     * @param level Compression level, 1 (fast) to 9 (small)
+     * @param nowrap true for raw deflate data (gzip framing), false for the zlib format
+     * @param maxIdle Maximum number of idle deflaters kept
+     */
+    DeflaterPool(int level, boolean nowrap, int maxIdle) {
+        this.level = level;
+        this.nowrap = nowrap;
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, maxIdle));
+    }
+    
+    /**
+     * @return Ready-to-use deflater; give it back with release
+     */
+    Deflater borrow() {
+        Deflater deflater = idle.poll();
+        return deflater != null ? deflater : new Deflater(level, nowrap);
+    }
+    
+    /**
+     * Return a deflater to the pool
+     * @param deflater Deflater obtained from borrow
+     */
+    void release(Deflater deflater) {
+        deflater.reset();
+        if (!idle.offer(deflater)) {
+            deflater.end();
+        }
+    }
+    
+    /**
+     * Free the native memory of all idle deflaters
+     */
+    void close() {
+        Deflater deflater;
+        while ((deflater = idle.poll()) != null) {
+            deflater.end();
+        }
+    }
+}
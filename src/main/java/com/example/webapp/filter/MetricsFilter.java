@@ -0,0 +1,124 @@
+package com.example.webapp.filter;
+
+import com.example.webapp.metrics.LatencyHistogram;
+import com.example.webapp.metrics.MetricsRegistry;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Metrics Filter
+ * Records the latency of every request per servlet path, including the time
+ * until an asynchronous request completes. When also mapped for FORWARD and
+ * ASYNC dispatches to JSPs, it records page rendering time separately.
+ * Requests that throw or answer with a 5xx status count as errors.
+ */
+public class MetricsFilter implements Filter {
+    
+    private static final String REQUEST_TIMER = "http_server_request_duration_seconds";
+    private static final String RENDER_TIMER = "jsp_render_duration_seconds";
+    // Label for requests no servlet handled, so scanners cannot create a series per path
+    private static final String UNMATCHED_PATH = "unmatched";
+    
+    private MetricsRegistry registry;
+    
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        registry = MetricsRegistry.getInstance();
+    }
+    
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest) || !(response instanceof HttpServletResponse)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        boolean render = request.getDispatcherType() == DispatcherType.FORWARD
+            || request.getDispatcherType() == DispatcherType.ASYNC;
+        long start = System.nanoTime();
+        boolean failed = true;
+        
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (render) {
+                LatencyHistogram timer = registry.timer(RENDER_TIMER,
+                    "Time spent rendering JSP pages after a forward or async dispatch", "page",
+                    httpRequest.getServletPath());
+                record(timer, start, failed, httpResponse.getStatus());
+            } else if (!failed && request.isAsyncStarted()) {
+                // Measured until the async work completes the response
+                request.getAsyncContext().addListener(new CompletionListener(httpRequest, start));
+            } else {
+                record(requestTimer(httpRequest, httpResponse.getStatus()), start, failed, httpResponse.getStatus());
+            }
+        }
+    }
+    
+    @Override
+    public void destroy() {
+    }
+    
+    private LatencyHistogram requestTimer(HttpServletRequest request, int status) {
+        String path = status == HttpServletResponse.SC_NOT_FOUND ? UNMATCHED_PATH : request.getServletPath();
+        return registry.timer(REQUEST_TIMER, "HTTP request latency by servlet path", "path", path);
+    }
+    
+    private static void record(LatencyHistogram timer, long start, boolean failed, int status) {
+        timer.recordSince(start);
+        if (failed || status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+            timer.recordError();
+        }
+    }
+    
+    /**
+     * Records an asynchronous request once it completes, times out or fails
+     */
+    private final class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final long start;
+        private volatile boolean failed;
+        
+        CompletionListener(HttpServletRequest request, long start) {
+            this.request = request;
+            this.start = start;
+        }
+        
+        @Override
+        public void onComplete(AsyncEvent event) {
+            int status = ((HttpServletResponse) event.getAsyncContext().getResponse()).getStatus();
+            record(requestTimer(request, status), start, failed, status);
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A re-started async cycle reuses the context; keep listening
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.webapp.filter;
+
+import com.example.webapp.security.AuthTokenService;
+import com.example.webapp.session.PersistentSessionStore;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+
+/**
+ * Session Persistence Filter
+ * Restores persisted login sessions after a restart and records session
+ * access times for the persistent session store.
+ */
+public class SessionPersistenceFilter implements Filter {
+    
+    private PersistentSessionStore sessionStore;
+    private boolean active;
+    
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        sessionStore = PersistentSessionStore.getInstance();
+        // Token mode keeps no server-side session state to persist
+        active = sessionStore.isEnabled() && !AuthTokenService.getInstance().isTokenMode();
+    }
+    
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (active && request instanceof HttpServletRequest) {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            HttpSession session = httpRequest.getSession(false);
+            
+            if (session == null && httpRequest.getRequestedSessionId() != null
+                    && !httpRequest.isRequestedSessionIdValid()) {
+                session = sessionStore.rehydrate(httpRequest);
+            }
+            if (session != null && session.getAttribute("user") != null) {
+                sessionStore.touch(session.getId());
+            }
+        }
+        chain.doFilter(request, response);
+    }
+    
+    @Override
+    public void destroy() {
+    }
+}
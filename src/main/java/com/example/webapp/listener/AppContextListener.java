@@ -0,0 +1,123 @@
+package com.example.webapp.listener;
+
+import com.example.webapp.dao.CachingUserDAO;
+import com.example.webapp.dao.UserDAO;
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.metrics.MetricsRegistry;
+import com.example.webapp.security.LoginRateLimiter;
+import com.example.webapp.service.ActivityLogger;
+import com.example.webapp.service.HealthMonitor;
+import com.example.webapp.session.PersistentSessionStore;
+import com.example.webapp.util.ConnectionPool;
+import com.example.webapp.util.DatabaseUtil;
+import com.example.webapp.util.LruCache;
+import com.example.webapp.util.PasswordHashExecutor;
+import com.example.webapp.util.PasswordUtil;
+import com.example.webapp.util.ReplicaRouter;
+import com.example.webapp.util.RequestExecutor;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+/**
+ * Application Lifecycle Listener
+ * Publishes the shared components' counters as metrics on startup and releases
+ * shared resources such as worker threads and pooled database connections on undeploy
+ */
+public class AppContextListener implements ServletContextListener {
+    
+    private static final Logger LOG = LogManager.getLogger(AppContextListener.class);
+    
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        registerGauges(MetricsRegistry.getInstance());
+        // Load the hash policy now, so BCrypt calibration (if on) runs at deploy and not in a login
+        PasswordUtil.getHashPolicy();
+        if (StartupWarmup.isEnabled()) {
+            StartupWarmup.run();
+        }
+        HealthMonitor.getInstance().start();
+        LOG.info("Application context initialized");
+    }
+    
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        HealthMonitor.getInstance().shutdown();
+        RequestExecutor.getInstance().shutdown();
+        PasswordHashExecutor.getInstance().shutdown();
+        // Flush buffered activities and sessions while database connections are still available
+        ActivityLogger.getInstance().shutdown();
+        PersistentSessionStore.getInstance().shutdown();
+        DatabaseUtil.shutdown();
+        LOG.info("Application context destroyed, database connections released");
+        // Last, so the shutdown messages above are written out
+        LogManager.shutdown();
+    }
+    
+    /**
+     * Expose the counters kept by the shared components on /metrics
+     * @param metrics Registry to add the gauges to
+     */
+    private void registerGauges(MetricsRegistry metrics) {
+        ConnectionPool pool = DatabaseUtil.getConnectionPool();
+        if (pool != null) {
+            metrics.gauge("db_pool_connections_active", "Connections borrowed from the writer pool", false, pool::getActiveConnections);
+            metrics.gauge("db_pool_connections_idle", "Idle connections in the writer pool", false, pool::getIdleConnections);
+            metrics.gauge("db_pool_connections_max", "Maximum size of the writer pool", false, pool::getMaxSize);
+            metrics.gauge("db_pool_waiting_threads", "Threads waiting for a writer connection", false, pool::getWaitingThreads);
+            metrics.gauge("db_statement_cache_hits_total", "Prepared statements served from the cache", true, pool::getStatementCacheHits);
+            metrics.gauge("db_statement_cache_misses_total", "Prepared statements prepared on the server", true, pool::getStatementCacheMisses);
+        }
+        
+        ReplicaRouter router = DatabaseUtil.getReplicaRouter();
+        if (router != null) {
+            metrics.gauge("db_replica_healthy", "Replicas currently in the read rotation", false, router::getHealthyReplicaCount);
+            metrics.gauge("db_replica_reads_total", "Reads served by a replica", true, router::getReplicaReads);
+            metrics.gauge("db_writer_reads_total", "Reads served by the writer", true, router::getWriterReads);
+            metrics.gauge("db_replica_failovers_total", "Replicas taken out of rotation after a failure", true, router::getFailovers);
+        }
+        
+        UserDAO userDAO = CachingUserDAO.getSharedInstance();
+        if (userDAO instanceof CachingUserDAO) {
+            CachingUserDAO cachingDAO = (CachingUserDAO) userDAO;
+            registerCacheGauges(metrics, "user_cache", "users by ID", cachingDAO.getUserCache());
+            registerCacheGauges(metrics, "username_cache", "user IDs by username", cachingDAO.getUsernameCache());
+        }
+        
+        PasswordHashExecutor hashExecutor = PasswordHashExecutor.getInstance();
+        metrics.gauge("password_hash_queue_depth", "Hashing tasks waiting for a worker", false, hashExecutor::getQueueDepth);
+        metrics.gauge("password_hash_active_workers", "Hashing workers busy", false, hashExecutor::getActiveWorkers);
+        metrics.gauge("password_hash_rejected_total", "Hashing tasks rejected because the queue was full", true, hashExecutor::getRejectedCount);
+        
+        RequestExecutor requestExecutor = RequestExecutor.getInstance();
+        if (requestExecutor.isVirtual()) {
+            metrics.gauge("virtual_requests_in_flight", "Requests running on virtual threads", false, requestExecutor::getInFlightCount);
+            metrics.gauge("virtual_requests_rejected_total", "Requests rejected because too many were in flight", true, requestExecutor::getRejectedCount);
+        }
+        
+        ActivityLogger activityLogger = ActivityLogger.getInstance();
+        metrics.gauge("activity_log_pending", "Activities buffered for the next batch", false, activityLogger::getPendingCount);
+        metrics.gauge("activity_log_written_total", "Activities written to the database", true, activityLogger::getWrittenCount);
+        metrics.gauge("activity_log_dropped_total", "Activities dropped because the buffer was full", true, activityLogger::getDroppedCount);
+        metrics.gauge("activity_log_failed_total", "Activities lost to failed batch writes", true, activityLogger::getFailedCount);
+        
+        metrics.gauge("log_events_pending", "Log events waiting for the appender thread", false, LogManager::getPendingCount);
+        metrics.gauge("log_events_dropped_total", "DEBUG and INFO events dropped because the log buffer was full", true, LogManager::getDroppedCount);
+        
+        metrics.gauge("health_ready", "1 while /health/ready reports the node ready", false, HealthMonitor.getInstance()::getReadyValue);
+        
+        LoginRateLimiter rateLimiter = LoginRateLimiter.getInstance();
+        metrics.gauge("login_rate_limited_username_total", "Logins refused by the per-username limit", true, rateLimiter::getRejectedByUsername);
+        metrics.gauge("login_rate_limited_ip_total", "Logins refused by the per-address limit", true, rateLimiter::getRejectedByIp);
+    }
+    
+    /**
+     * Expose the hit, miss and eviction counters of one cache
+     */
+    private void registerCacheGauges(MetricsRegistry metrics, String prefix, String description, LruCache<?, ?> cache) {
+        metrics.gauge(prefix + "_hits_total", "Lookups of " + description + " served from the cache", true, cache::getHitCount);
+        metrics.gauge(prefix + "_misses_total", "Lookups of " + description + " that found no live cache entry", true, cache::getMissCount);
+        metrics.gauge(prefix + "_evictions_total", "Cached " + description + " dropped because of size or expiry", true, cache::getEvictionCount);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.webapp.listener;
+
+import com.example.webapp.dao.UserDAO;
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.util.AppConfig;
+import com.example.webapp.util.DatabaseUtil;
+import com.example.webapp.util.PasswordUtil;
+
+/**
+ * Startup Warm-up
+ * Runs before the context reports started (startup.warmup.enabled) so the first
+ * login does not pay for opening database connections, loading the DAO and
+ * BCrypt classes, or running them in the interpreter.
+ *
+ * The login lookups use a username that cannot exist, so no account is touched
+ * and no activity is logged; they do appear in the database query metrics.
+ */
+final class StartupWarmup {
+
+    private static final Logger LOG = LogManager.getLogger(StartupWarmup.class);
+
+    // Login and registration trim usernames, so this one can never be stored
+    private static final String WARMUP_USERNAME = " startup-warmup ";
+    private static final String WARMUP_PASSWORD = "Warmup12345";
+
+    private StartupWarmup() {
+    }
+
+    /**
+     * @return true if startup.warmup.enabled is set
+     */
+    static boolean isEnabled() {
+        return AppConfig.getBoolean("startup.warmup.enabled", false);
+    }
+
+    /**
+     * Open pooled connections and exercise the login path
+     * Failures are logged; the application still starts without a database.
+     */
+    static void run() {
+        long start = System.nanoTime();
+        try {
+            int connections = DatabaseUtil.warmUp(AppConfig.getInt("startup.warmup.connections", 5));
+
+            UserDAO userDAO = new UserDAO();
+            int iterations = AppConfig.getInt("startup.warmup.iterations", 200);
+            for (int i = 0; i < iterations; i++) {
+                userDAO.validateLogin(WARMUP_USERNAME, WARMUP_PASSWORD);
+            }
+
+            // One hash and verify at the configured cost loads and compiles BCrypt
+            String hash = PasswordUtil.hashPassword(WARMUP_PASSWORD);
+            PasswordUtil.verifyPassword(WARMUP_PASSWORD, hash);
+
+            LOG.info("Startup warm-up finished in {} ms: {} pooled connections, {} login lookups",
+                (System.nanoTime() - start) / 1_000_000, connections, iterations);
+        } catch (Exception e) {
+            LOG.warn("Startup warm-up failed, continuing without it: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.example.webapp.logging;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous Log Appender
+ * Multi-producer ring buffer of preallocated LogEvent slots drained by one
+ * background thread. Request threads claim a slot with a CAS and never take
+ * the System.out lock; the appender thread formats the messages and prints
+ * them in batches of whole lines, INFO and below to System.out, WARN and
+ * ERROR to System.err.
+ * 
+ * When the ring is full, DEBUG and INFO events are dropped and counted, while
+ * WARN and ERROR are written synchronously so they are never lost. After
+ * shutdown every event is written synchronously.
+ */
+final class AsyncLogAppender implements Runnable {
+    
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final int BATCH_SIZE = 8192;
+    
+    private final LogEvent[] ring;
+    private final int mask;
+    // Next sequence to claim / next sequence to write
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private long droppedReported;
+    
+    // Complete lines waiting to be printed; flushed whole so direct writes never split a line
+    private final StringBuilder outBatch = new StringBuilder(BATCH_SIZE + 1024);
+    private final StringBuilder errBatch = new StringBuilder(1024);
+    private final ZoneId zone = ZoneId.systemDefault();
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+    
+    private final Thread thread;
+    private volatile boolean running = true;
+    
+    /**
+     * Create and start the appender
+     * @param capacity Ring size, rounded up to a power of two
+     */
+    AsyncLogAppender(int capacity) {
+        int size = Integer.highestOneBit(Math.max(64, capacity) - 1) << 1;
+        this.ring = new LogEvent[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new LogEvent();
+        }
+        this.mask = size - 1;
+        
+        this.thread = new Thread(this, "log-appender");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * Queue an event; see Logger for the argument conventions
+     */
+    void append(LogLevel level, String loggerName, String format, int argCount,
+                Object arg0, Object arg1, Object[] args) {
+        
+        Throwable thrown = null;
+        if (argCount > 0) {
+            Object last = args != null ? args[argCount - 1] : (argCount == 1 ? arg0 : arg1);
+            if (last instanceof Throwable) {
+                thrown = (Throwable) last;
+            }
+        }
+        
+        long sequence = running ? claim() : -1;
+        if (sequence < 0) {
+            if (!running || level.ordinal() >= LogLevel.WARN.ordinal()) {
+                writeDirect(level, loggerName, format, argCount, arg0, arg1, args, thrown);
+            } else {
+                dropped.increment();
+            }
+            return;
+        }
+        
+        LogEvent event = ring[(int) (sequence & mask)];
+        event.level = level;
+        event.timestamp = System.currentTimeMillis();
+        event.loggerName = loggerName;
+        event.threadName = Thread.currentThread().getName();
+        event.format = format;
+        event.argCount = argCount;
+        event.arg0 = arg0;
+        event.arg1 = arg1;
+        event.args = args;
+        event.thrown = thrown;
+        event.sequence = sequence;
+    }
+    
+    /**
+     * @return Claimed sequence, -1 if the ring is full
+     */
+    private long claim() {
+        while (true) {
+            long sequence = claimed.get();
+            if (sequence - consumed.get() >= ring.length) {
+                return -1;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+    
+    @Override
+    public void run() {
+        long parkNanos = MIN_PARK_NANOS;
+        while (true) {
+            long next = consumed.get();
+            LogEvent event = ring[(int) (next & mask)];
+            if (event.sequence == next) {
+                try {
+                    write(event);
+                } catch (RuntimeException e) {
+                    // A failing toString() must not stop logging
+                    System.err.println("Log event could not be written: " + e);
+                }
+                event.clear();
+                consumed.lazySet(next + 1);
+                parkNanos = MIN_PARK_NANOS;
+                continue;
+            }
+            
+            reportDropped();
+            flush();
+            if (!running && claimed.get() == next) {
+                return;
+            }
+            LockSupport.parkNanos(this, parkNanos);
+            parkNanos = Math.min(MAX_PARK_NANOS, parkNanos << 1);
+        }
+    }
+    
+    /**
+     * Write out everything queued and switch to synchronous writes
+     * @param timeoutMillis Maximum time to wait for the queue to drain
+     */
+    void shutdown(long timeoutMillis) {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * @return Events discarded because the ring was full
+     */
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    /**
+     * @return Events waiting to be written
+     */
+    int getPendingCount() {
+        return (int) Math.max(0, claimed.get() - consumed.get());
+    }
+    
+    /**
+     * @return Ring capacity
+     */
+    int getCapacity() {
+        return ring.length;
+    }
+    
+    private void write(LogEvent event) {
+        boolean error = event.level.ordinal() >= LogLevel.WARN.ordinal();
+        StringBuilder batch = error ? errBatch : outBatch;
+        int start = batch.length();
+        try {
+            formatLine(batch, event.level, event.timestamp, event.threadName, event.loggerName);
+            formatMessage(batch, event.format, event);
+        } catch (RuntimeException e) {
+            batch.setLength(start);
+            throw e;
+        }
+        batch.append(System.lineSeparator());
+        if (event.thrown != null) {
+            StringWriter trace = new StringWriter();
+            event.thrown.printStackTrace(new PrintWriter(trace));
+            batch.append(trace);
+        }
+        // Errors are printed at once; other lines once the batch is full or the ring is drained
+        if (error || batch.length() >= BATCH_SIZE) {
+            flush();
+        }
+    }
+    
+    private void reportDropped() {
+        long total = dropped.sum();
+        if (total > droppedReported) {
+            formatLine(errBatch, LogLevel.WARN, System.currentTimeMillis(), thread.getName(), getClass().getName());
+            errBatch.append(total - droppedReported).append(" log events dropped, log buffer was full")
+                .append(System.lineSeparator());
+            droppedReported = total;
+        }
+    }
+    
+    private void flush() {
+        print(System.out, outBatch);
+        print(System.err, errBatch);
+    }
+    
+    private static void print(PrintStream stream, StringBuilder batch) {
+        if (batch.length() > 0) {
+            synchronized (stream) {
+                stream.print(batch);
+                stream.flush();
+            }
+            batch.setLength(0);
+        }
+    }
+    
+    /**
+     * Fallback used when the ring is full or the appender is stopped
+     */
+    private void writeDirect(LogLevel level, String loggerName, String format, int argCount,
+                             Object arg0, Object arg1, Object[] args, Throwable thrown) {
+        LogEvent event = new LogEvent();
+        event.argCount = argCount;
+        event.arg0 = arg0;
+        event.arg1 = arg1;
+        event.args = args;
+        
+        StringBuilder builder = new StringBuilder(128);
+        formatLine(builder, level, System.currentTimeMillis(), Thread.currentThread().getName(), loggerName);
+        formatMessage(builder, format, event);
+        PrintStream stream = level.ordinal() >= LogLevel.WARN.ordinal() ? System.err : System.out;
+        synchronized (stream) {
+            stream.println(builder);
+            if (thrown != null) {
+                thrown.printStackTrace(stream);
+            }
+        }
+    }
+    
+    /**
+     * Line prefix: 2026-01-31 12:00:00.123 INFO  [thread] ShortName - 
+     */
+    private void formatLine(StringBuilder builder, LogLevel level, long timestamp, String threadName, String loggerName) {
+        builder.append(timestamp(timestamp)).append('.');
+        int millis = (int) Math.floorMod(timestamp, 1000L);
+        if (millis < 100) {
+            builder.append('0');
+        }
+        if (millis < 10) {
+            builder.append('0');
+        }
+        builder.append(millis).append(' ').append(level.name());
+        for (int pad = level.name().length(); pad < 5; pad++) {
+            builder.append(' ');
+        }
+        builder.append(" [").append(threadName).append("] ");
+        builder.append(loggerName, loggerName.lastIndexOf('.') + 1, loggerName.length()).append(" - ");
+    }
+    
+    /**
+     * Date and time to the second, recomputed once per second. Only the
+     * appender thread uses the cache; direct writes format their own.
+     */
+    private String timestamp(long timestamp) {
+        long second = Math.floorDiv(timestamp, 1000L);
+        if (Thread.currentThread() != thread) {
+            return formatSecond(second);
+        }
+        if (second != cachedSecond) {
+            cachedTimestamp = formatSecond(second);
+            cachedSecond = second;
+        }
+        return cachedTimestamp;
+    }
+    
+    private String formatSecond(long second) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), zone);
+        return String.format("%04d-%02d-%02d %02d:%02d:%02d", time.getYear(), time.getMonthValue(),
+            time.getDayOfMonth(), time.getHour(), time.getMinute(), time.getSecond());
+    }
+    
+    /**
+     * Substitute {} placeholders with the event arguments in order
+     */
+    static void formatMessage(StringBuilder builder, String format, LogEvent event) {
+        if (format == null) {
+            builder.append("null");
+            return;
+        }
+        int argIndex = 0;
+        int start = 0;
+        int placeholder;
+        while (argIndex < event.argCount && (placeholder = format.indexOf("{}", start)) >= 0) {
+            builder.append(format, start, placeholder);
+            appendArgument(builder, event.arg(argIndex++));
+            start = placeholder + 2;
+        }
+        builder.append(format, start, format.length());
+    }
+    
+    private static void appendArgument(StringBuilder builder, Object arg) {
+        if (arg instanceof Object[]) {
+            builder.append(Arrays.deepToString((Object[]) arg));
+        } else if (arg instanceof Throwable) {
+            builder.append(((Throwable) arg).getMessage());
+        } else {
+            builder.append(arg);
+        }
+    }
+}
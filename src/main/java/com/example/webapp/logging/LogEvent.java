@@ -0,0 +1,45 @@
+package com.example.webapp.logging;
+
+/**
+ * Log Event
+ * One preallocated slot of the appender's ring buffer. Producers fill the
+ * fields and then publish the slot by writing its sequence number; the
+ * appender thread reads it only after seeing that sequence.
+ */
+final class LogEvent {
+    
+    volatile long sequence = -1;
+    
+    LogLevel level;
+    long timestamp;
+    String loggerName;
+    String threadName;
+    String format;
+    int argCount;
+    Object arg0;
+    Object arg1;
+    Object[] args;
+    Throwable thrown;
+    
+    /**
+     * @param index Argument position
+     * @return Argument, whether it was passed inline or as an array
+     */
+    Object arg(int index) {
+        if (args != null) {
+            return args[index];
+        }
+        return index == 0 ? arg0 : arg1;
+    }
+    
+    /**
+     * Drop references so the slot does not keep arguments alive
+     */
+    void clear() {
+        format = null;
+        arg0 = null;
+        arg1 = null;
+        args = null;
+        thrown = null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.webapp.logging;
+
+import java.util.Locale;
+
+/**
+ * Log Levels
+ * In increasing order of severity; a logger emits its level and above
+ */
+public enum LogLevel {
+    TRACE, DEBUG, INFO, WARN, ERROR, OFF;
+    
+    /**
+     * Parse a level name as written in application.properties
+     * @param name Level name, case-insensitive
+     * @param defaultLevel Level returned for unknown names
+     * @return Parsed level
+     */
+    public static LogLevel parse(String name, LogLevel defaultLevel) {
+        if (name == null) {
+            return defaultLevel;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return defaultLevel;
+        }
+    }
+}
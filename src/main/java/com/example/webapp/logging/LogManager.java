@@ -0,0 +1,98 @@
+package com.example.webapp.logging;
+
+import com.example.webapp.util.AppConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Log Manager
+ * Creates loggers with levels from the logging.level.* keys in
+ * application.properties. The most specific package or class prefix wins,
+ * falling back to logging.level.root:
+ *   logging.level.root=WARN
+ *   logging.level.com.example.webapp=INFO
+ *   logging.level.com.example.webapp.dao=DEBUG
+ */
+public final class LogManager {
+    
+    private static final String LEVEL_PREFIX = "logging.level.";
+    private static final String ROOT = "root";
+    
+    private static final Map<String, LogLevel> LEVELS = loadLevels();
+    private static final AsyncLogAppender APPENDER =
+        new AsyncLogAppender(AppConfig.getInt("logging.async.buffer.size", 8192));
+    private static final ConcurrentMap<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+    
+    private LogManager() {
+    }
+    
+    /**
+     * Get the logger of a class
+     * @param type Class that logs
+     * @return Shared logger named after the class
+     */
+    public static Logger getLogger(Class<?> type) {
+        return getLogger(type.getName());
+    }
+    
+    /**
+     * Get a logger by name
+     * @param name Dot-separated logger name
+     * @return Shared logger
+     */
+    public static Logger getLogger(String name) {
+        Logger logger = LOGGERS.get(name);
+        if (logger == null) {
+            logger = LOGGERS.computeIfAbsent(name, key -> new Logger(key, levelFor(key), APPENDER));
+        }
+        return logger;
+    }
+    
+    /**
+     * Write out queued events and log synchronously from then on
+     */
+    public static void shutdown() {
+        APPENDER.shutdown(AppConfig.getLong("logging.shutdown.timeout.ms", 2000));
+    }
+    
+    /**
+     * @return Events dropped because the log buffer was full
+     */
+    public static long getDroppedCount() {
+        return APPENDER.getDroppedCount();
+    }
+    
+    /**
+     * @return Events waiting to be written
+     */
+    public static int getPendingCount() {
+        return APPENDER.getPendingCount();
+    }
+    
+    private static LogLevel levelFor(String name) {
+        String prefix = name;
+        while (true) {
+            LogLevel level = LEVELS.get(prefix);
+            if (level != null) {
+                return level;
+            }
+            int dot = prefix.lastIndexOf('.');
+            if (dot < 0) {
+                break;
+            }
+            prefix = prefix.substring(0, dot);
+        }
+        LogLevel root = LEVELS.get(ROOT);
+        return root != null ? root : LogLevel.INFO;
+    }
+    
+    private static Map<String, LogLevel> loadLevels() {
+        Map<String, LogLevel> levels = new ConcurrentHashMap<>();
+        for (Map.Entry<String, String> entry : AppConfig.getByPrefix(LEVEL_PREFIX).entrySet()) {
+            levels.put(entry.getKey(), LogLevel.parse(entry.getValue(), LogLevel.INFO));
+        }
+        return levels;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.webapp.logging;
+
+/**
+ * Logger
+ * Level-checked facade over the asynchronous appender. Messages use {}
+ * placeholders and are formatted on the appender thread, so a disabled level
+ * costs one comparison and an enabled one does not build strings on the
+ * calling thread. Arguments are formatted later and must not be mutated
+ * after the call. A Throwable passed as the last argument is logged with its
+ * stack trace.
+ * 
+ * Obtain instances through LogManager.getLogger and keep them in a static field.
+ */
+public final class Logger {
+    
+    private final String name;
+    private final int threshold;
+    private final AsyncLogAppender appender;
+    
+    Logger(String name, LogLevel level, AsyncLogAppender appender) {
+        this.name = name;
+        this.threshold = level.ordinal();
+        this.appender = appender;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= threshold;
+    }
+    
+    public boolean isDebugEnabled() {
+        return LogLevel.DEBUG.ordinal() >= threshold;
+    }
+    
+    public void debug(String message) {
+        if (LogLevel.DEBUG.ordinal() >= threshold) {
+            appender.append(LogLevel.DEBUG, name, message, 0, null, null, null);
+        }
+    }
+    
+    public void debug(String format, Object arg) {
+        if (LogLevel.DEBUG.ordinal() >= threshold) {
+            appender.append(LogLevel.DEBUG, name, format, 1, arg, null, null);
+        }
+    }
+    
+    public void debug(String format, Object arg0, Object arg1) {
+        if (LogLevel.DEBUG.ordinal() >= threshold) {
+            appender.append(LogLevel.DEBUG, name, format, 2, arg0, arg1, null);
+        }
+    }
+    
+    public void debug(String format, Object... args) {
+        if (LogLevel.DEBUG.ordinal() >= threshold) {
+            appender.append(LogLevel.DEBUG, name, format, args.length, null, null, args);
+        }
+    }
+    
+    public void info(String message) {
+        if (LogLevel.INFO.ordinal() >= threshold) {
+            appender.append(LogLevel.INFO, name, message, 0, null, null, null);
+        }
+    }
+    
+    public void info(String format, Object arg) {
+        if (LogLevel.INFO.ordinal() >= threshold) {
+            appender.append(LogLevel.INFO, name, format, 1, arg, null, null);
+        }
+    }
+    
+    public void info(String format, Object arg0, Object arg1) {
+        if (LogLevel.INFO.ordinal() >= threshold) {
+            appender.append(LogLevel.INFO, name, format, 2, arg0, arg1, null);
+        }
+    }
+    
+    public void info(String format, Object... args) {
+        if (LogLevel.INFO.ordinal() >= threshold) {
+            appender.append(LogLevel.INFO, name, format, args.length, null, null, args);
+        }
+    }
+    
+    public void warn(String message) {
+        if (LogLevel.WARN.ordinal() >= threshold) {
+            appender.append(LogLevel.WARN, name, message, 0, null, null, null);
+        }
+    }
+    
+    public void warn(String format, Object arg) {
+        if (LogLevel.WARN.ordinal() >= threshold) {
+            appender.append(LogLevel.WARN, name, format, 1, arg, null, null);
+        }
+    }
+    
+    public void warn(String format, Object arg0, Object arg1) {
+        if (LogLevel.WARN.ordinal() >= threshold) {
+            appender.append(LogLevel.WARN, name, format, 2, arg0, arg1, null);
+        }
+    }
+    
+    public void warn(String format, Object... args) {
+        if (LogLevel.WARN.ordinal() >= threshold) {
+            appender.append(LogLevel.WARN, name, format, args.length, null, null, args);
+        }
+    }
+    
+    public void error(String message) {
+        if (LogLevel.ERROR.ordinal() >= threshold) {
+            appender.append(LogLevel.ERROR, name, message, 0, null, null, null);
+        }
+    }
+    
+    public void error(String format, Object arg) {
+        if (LogLevel.ERROR.ordinal() >= threshold) {
+            appender.append(LogLevel.ERROR, name, format, 1, arg, null, null);
+        }
+    }
+    
+    public void error(String format, Object arg0, Object arg1) {
+        if (LogLevel.ERROR.ordinal() >= threshold) {
+            appender.append(LogLevel.ERROR, name, format, 2, arg0, arg1, null);
+        }
+    }
+    
+    public void error(String format, Object... args) {
+        if (LogLevel.ERROR.ordinal() >= threshold) {
+            appender.append(LogLevel.ERROR, name, format, args.length, null, null, args);
+        }
+    }
+}
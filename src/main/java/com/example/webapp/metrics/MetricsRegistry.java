@@ -0,0 +1,207 @@
+package com.example.webapp.metrics;
+
+import com.example.webapp.util.AppConfig;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Metrics Registry
+ * Holds the application's latency timers and gauges and renders them in the
+ * Prometheus text exposition format. Timers are looked up once and kept in
+ * static fields by the code they measure, so recording is a few atomic adds.
+ */
+public class MetricsRegistry {
+    
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    private static final String[] QUANTILE_LABELS = {"0.5", "0.99", "0.999"};
+    // Label value used once a timer family reaches its series limit
+    private static final String OVERFLOW_LABEL = "other";
+    
+    private final long windowMillis = AppConfig.getLong("metrics.window.ms", 60000);
+    private final int maxSeries = AppConfig.getInt("metrics.max.series.per.timer", 200);
+    
+    private final ConcurrentMap<String, TimerFamily> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Gauge> gauges = new ConcurrentHashMap<>();
+    
+    private MetricsRegistry() {
+    }
+    
+    /**
+     * Get singleton instance
+     * @return MetricsRegistry instance
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get or create a latency timer
+     * @param name Metric name, e.g. db_query_duration_seconds
+     * @param help One-line description of the family
+     * @param labelName Label distinguishing the timers of the family
+     * @param labelValue Label value of this timer
+     * @return Timer for the label value, shared by all callers
+     */
+    public LatencyHistogram timer(String name, String help, String labelName, String labelValue) {
+        TimerFamily family = timers.get(name);
+        if (family == null) {
+            family = timers.computeIfAbsent(name, key -> new TimerFamily(help, labelName));
+        }
+        return family.get(labelValue);
+    }
+    
+    /**
+     * Register a gauge read at scrape time; re-registering a name replaces it
+     * @param name Metric name
+     * @param help One-line description
+     * @param counter true if the value only ever increases
+     * @param supplier Current value
+     */
+    public void gauge(String name, String help, boolean counter, DoubleSupplier supplier) {
+        gauges.put(name, new Gauge(help, counter, supplier));
+    }
+    
+    /**
+     * Write all metrics in Prometheus text format (version 0.0.4)
+     * @param out Destination
+     * @throws IOException If writing fails
+     */
+    public void writePrometheus(Writer out) throws IOException {
+        // Sorted so the output is stable between scrapes
+        for (Map.Entry<String, TimerFamily> entry : new TreeMap<>(timers).entrySet()) {
+            entry.getValue().write(entry.getKey(), out);
+        }
+        for (Map.Entry<String, Gauge> entry : new TreeMap<>(gauges).entrySet()) {
+            Gauge gauge = entry.getValue();
+            String name = entry.getKey();
+            writeHeader(out, name, gauge.help, gauge.counter ? "counter" : "gauge");
+            out.write(name);
+            out.write(' ');
+            writeValue(out, gauge.supplier.getAsDouble());
+            out.write('\n');
+        }
+    }
+    
+    private static void writeHeader(Writer out, String name, String help, String type) throws IOException {
+        out.write("# HELP ");
+        out.write(name);
+        out.write(' ');
+        out.write(help);
+        out.write("\n# TYPE ");
+        out.write(name);
+        out.write(' ');
+        out.write(type);
+        out.write('\n');
+    }
+    
+    private static void writeValue(Writer out, double value) throws IOException {
+        if (Double.isNaN(value)) {
+            out.write("NaN");
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.write(Long.toString((long) value));
+        } else {
+            out.write(Double.toString(value));
+        }
+    }
+    
+    /**
+     * Escape a label value per the exposition format
+     */
+    private static String escapeLabel(String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+    
+    /**
+     * Timers of one metric name, one per label value
+     */
+    private final class TimerFamily {
+        private final String help;
+        private final String labelName;
+        private final ConcurrentMap<String, LatencyHistogram> series = new ConcurrentHashMap<>();
+        
+        TimerFamily(String help, String labelName) {
+            this.help = help;
+            this.labelName = labelName;
+        }
+        
+        LatencyHistogram get(String labelValue) {
+            LatencyHistogram histogram = series.get(labelValue);
+            if (histogram != null) {
+                return histogram;
+            }
+            // Bound the number of series so unexpected label values cannot grow memory without limit
+            if (series.size() >= maxSeries) {
+                labelValue = OVERFLOW_LABEL;
+            }
+            return series.computeIfAbsent(labelValue, key -> new LatencyHistogram(windowMillis));
+        }
+        
+        void write(String name, Writer out) throws IOException {
+            writeHeader(out, name, help, "summary");
+            List<String> errorLines = new ArrayList<>();
+            for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(series).entrySet()) {
+                String label = labelName + "=\"" + escapeLabel(entry.getKey()) + "\"";
+                LatencyHistogram histogram = entry.getValue();
+                double[] values = histogram.getQuantiles(QUANTILES);
+                for (int i = 0; i < QUANTILES.length; i++) {
+                    out.write(name + "{" + label + ",quantile=\"" + QUANTILE_LABELS[i] + "\"} ");
+                    writeValue(out, values[i]);
+                    out.write('\n');
+                }
+                out.write(name + "_sum{" + label + "} ");
+                writeValue(out, histogram.getSumSeconds());
+                out.write('\n');
+                out.write(name + "_count{" + label + "} ");
+                writeValue(out, histogram.getCount());
+                out.write('\n');
+                errorLines.add("{" + label + "} " + histogram.getErrorCount());
+            }
+            
+            String errorName = errorsName(name);
+            writeHeader(out, errorName, "Failed operations counted by " + name, "counter");
+            for (String line : errorLines) {
+                out.write(errorName);
+                out.write(line);
+                out.write('\n');
+            }
+        }
+    }
+    
+    /**
+     * foo_duration_seconds -> foo_errors_total
+     */
+    private static String errorsName(String timerName) {
+        String base = timerName.endsWith("_duration_seconds")
+            ? timerName.substring(0, timerName.length() - "_duration_seconds".length())
+            : timerName;
+        return base + "_errors_total";
+    }
+    
+    /**
+     * Value read from elsewhere in the application at scrape time
+     */
+    private static final class Gauge {
+        private final String help;
+        private final boolean counter;
+        private final DoubleSupplier supplier;
+        
+        Gauge(String help, boolean counter, DoubleSupplier supplier) {
+            this.help = help;
+            this.counter = counter;
+            this.supplier = supplier;
+        }
+    }
+}
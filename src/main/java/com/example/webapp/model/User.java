@@ -1,97 +1,113 @@
-package com.example.webapp.model;
-
-import java.time.LocalDateTime;
-
-/**
- * User Data Model Class
- * Corresponds to the users table in the database
- */
-public class User {
-    private int id;
-    private String username;
-    private String password;
-    private String email;
-    private String fullName;
-    private LocalDateTime createdAt;
-    
-    // Default constructor
-    public User() {}
-    
-    // Constructor with parameters
-    public User(String username, String password, String email, String fullName) {
-        this.username = username;
-        this.password = password;
-        this.email = email;
-        this.fullName = fullName;
-    }
-    
-    // Complete constructor
-    public User(int id, String username, String password, String email, String fullName, LocalDateTime createdAt) {
-        this.id = id;
-        this.username = username;
-        this.password = password;
-        this.email = email;
-        this.fullName = fullName;
-        this.createdAt = createdAt;
-    }
-    
-    // Getter and Setter methods
-    public int getId() {
-        return id;
-    }
-    
-    public void setId(int id) {
-        this.id = id;
-    }
-    
-    public String getUsername() {
-        return username;
-    }
-    
-    public void setUsername(String username) {
-        this.username = username;
-    }
-    
-    public String getPassword() {
-        return password;
-    }
-    
-    public void setPassword(String password) {
-        this.password = password;
-    }
-    
-    public String getEmail() {
-        return email;
-    }
-    
-    public void setEmail(String email) {
-        this.email = email;
-    }
-    
-    public String getFullName() {
-        return fullName;
-    }
-    
-    public void setFullName(String fullName) {
-        this.fullName = fullName;
-    }
-    
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-    
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-    
-    @Override
-    public String toString() {
-        return "User{" +
-                "id=" + id +
-                ", username='" + username + '\'' +
-                ", email='" + email + '\'' +
-                ", fullName='" + fullName + '\'' +
-                ", createdAt=" + createdAt +
-                '}';
-    }
-}
+package com.example.webapp.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * User Data Model Class
+ * Corresponds to the users table in the database
+ */
+public class User {
+    private int id;
+    private String username;
+    private String password;
+    private String email;
+    private String fullName;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    // Default constructor
+    public User() {}
+    
+    // Constructor with parameters
+    public User(String username, String password, String email, String fullName) {
+        this.username = username;
+        this.password = password;
+        this.email = email;
+        this.fullName = fullName;
+    }
+    
+    // Complete constructor
+    public User(int id, String username, String password, String email, String fullName, LocalDateTime createdAt) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.email = email;
+        this.fullName = fullName;
+        this.createdAt = createdAt;
+    }
+    
+    // Copy constructor
+    public User(User other) {
+        this(other.id, other.username, other.password, other.email, other.fullName, other.createdAt);
+        this.updatedAt = other.updatedAt;
+    }
+    
+    // Getter and Setter methods
+    public int getId() {
+        return id;
+    }
+    
+    public void setId(int id) {
+        this.id = id;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    
+    public String getPassword() {
+        return password;
+    }
+    
+    public void setPassword(String password) {
+        this.password = password;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getFullName() {
+        return fullName;
+    }
+    
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "User{" +
+                "id=" + id +
+                ", username='" + username + '\'' +
+                ", email='" + email + '\'' +
+                ", fullName='" + fullName + '\'' +
+                ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
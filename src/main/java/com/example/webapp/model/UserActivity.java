@@ -0,0 +1,59 @@
+package com.example.webapp.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * User Activity Data Model Class
+ * Corresponds to the user_activities table in the database
+ */
+public class UserActivity {
+    
+    public static final String LOGIN = "LOGIN";
+    public static final String LOGOUT = "LOGOUT";
+    public static final String VIEW_WELCOME = "VIEW_WELCOME";
+    public static final String REGISTER = "REGISTER";
+    
+    private final int userId;
+    private final String activityType;
+    private final String activityDescription;
+    private final String ipAddress;
+    private final LocalDateTime createdAt;
+    
+    public UserActivity(int userId, String activityType, String activityDescription, String ipAddress) {
+        this.userId = userId;
+        this.activityType = activityType;
+        this.activityDescription = activityDescription;
+        this.ipAddress = ipAddress;
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public int getUserId() {
+        return userId;
+    }
+    
+    public String getActivityType() {
+        return activityType;
+    }
+    
+    public String getActivityDescription() {
+        return activityDescription;
+    }
+    
+    public String getIpAddress() {
+        return ipAddress;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "UserActivity{" +
+                "userId=" + userId +
+                ", activityType='" + activityType + '\'' +
+                ", ipAddress='" + ipAddress + '\'' +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.webapp.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * User Session Data Model Class
+ * Corresponds to the user_sessions table in the database
+ */
+public class UserSession {
+    private String id;
+    private int userId;
+    private String ipAddress;
+    private String userAgent;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastAccessed;
+    
+    // Default constructor
+    public UserSession() {}
+    
+    // Constructor with parameters
+    public UserSession(String id, int userId, String ipAddress, String userAgent) {
+        this.id = id;
+        this.userId = userId;
+        this.ipAddress = ipAddress;
+        this.userAgent = userAgent;
+        this.createdAt = LocalDateTime.now();
+        this.lastAccessed = this.createdAt;
+    }
+    
+    // Getter and Setter methods
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public int getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+    
+    public String getIpAddress() {
+        return ipAddress;
+    }
+    
+    public void setIpAddress(String ipAddress) {
+        this.ipAddress = ipAddress;
+    }
+    
+    public String getUserAgent() {
+        return userAgent;
+    }
+    
+    public void setUserAgent(String userAgent) {
+        this.userAgent = userAgent;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getLastAccessed() {
+        return lastAccessed;
+    }
+    
+    public void setLastAccessed(LocalDateTime lastAccessed) {
+        this.lastAccessed = lastAccessed;
+    }
+    
+    @Override
+    public String toString() {
+        return "UserSession{" +
+                "userId=" + userId +
+                ", ipAddress='" + ipAddress + '\'' +
+                ", createdAt=" + createdAt +
+                ", lastAccessed=" + lastAccessed +
+                '}';
+    }
+}
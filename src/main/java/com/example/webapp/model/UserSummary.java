@@ -0,0 +1,71 @@
+package com.example.webapp.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * User Summary
+ * Read-only projection of the users table without the password hash,
+ * used for pages, listings and session state
+ */
+public final class UserSummary {
+    private final int id;
+    private final String username;
+    private final String email;
+    private final String fullName;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    
+    // Complete constructor
+    public UserSummary(int id, String username, String email, String fullName,
+                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.fullName = fullName;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Projection of a loaded user; the password is never copied
+    public UserSummary(User user) {
+        this(user.getId(), user.getUsername(), user.getEmail(), user.getFullName(),
+            user.getCreatedAt(), user.getUpdatedAt());
+    }
+    
+    // Getter methods
+    public int getId() {
+        return id;
+    }
+    
+    public String getUsername() {
+        return username;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public String getFullName() {
+        return fullName;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "UserSummary{" +
+                "id=" + id +
+                ", username='" + username + '\'' +
+                ", email='" + email + '\'' +
+                ", fullName='" + fullName + '\'' +
+                ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -1,12 +1,12 @@
-/**
- * Java Web Application 
-
- * 
- * @author Your Name
- * @version 1.0
- * @since 2024
- */
-package com.example.webapp;
-
-
-
+/**
+ * Java Web Application 
+
+ * 
+ * @author Your Name
+ * @version 1.0
+ * @since 2024
+ */
+package com.example.webapp;
+
+
+
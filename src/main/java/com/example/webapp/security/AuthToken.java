@@ -0,0 +1,45 @@
+package com.example.webapp.security;
+
+/**
+ * Authentication Token Claims
+ * Verified contents of a signed login token
+ */
+public final class AuthToken {
+    
+    private final int userId;
+    private final long issuedAt;
+    private final long expiresAt;
+    
+    public AuthToken(int userId, long issuedAt, long expiresAt) {
+        this.userId = userId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+    
+    public int getUserId() {
+        return userId;
+    }
+    
+    /**
+     * @return Issue time in epoch seconds
+     */
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+    
+    /**
+     * @return Expiry time in epoch seconds
+     */
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+    
+    @Override
+    public String toString() {
+        return "AuthToken{" +
+                "userId=" + userId +
+                ", issuedAt=" + issuedAt +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
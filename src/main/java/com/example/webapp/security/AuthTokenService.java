@@ -0,0 +1,272 @@
+package com.example.webapp.security;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.util.AppConfig;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Authentication Token Service
+ * Issues and verifies compact HMAC-SHA256 signed login tokens so that login
+ * state can live in a cookie instead of the container session.
+ *
+ * Token format: userId.issuedAt.expiresAt.signature, where the numbers are
+ * decimal (times in epoch seconds) and the signature is the unpadded
+ * base64url HMAC of everything before the last dot. Verification runs
+ * without I/O and only allocates the resulting claims.
+ */
+public class AuthTokenService {
+    
+    private static final Logger LOG = LogManager.getLogger(AuthTokenService.class);
+    
+    public static final String MODE_SESSION = "session";
+    public static final String MODE_TOKEN = "token";
+    
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int ENCODED_SIGNATURE_LENGTH = 43;
+    private static final int[] BASE64URL_VALUES = new int[128];
+    
+    static {
+        Arrays.fill(BASE64URL_VALUES, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL_VALUES[alphabet.charAt(i)] = i;
+        }
+    }
+    
+    private static final AuthTokenService INSTANCE = new AuthTokenService(
+        AppConfig.getString("auth.mode", MODE_SESSION),
+        AppConfig.getString("auth.token.secret", ""),
+        AppConfig.getLong("auth.token.ttl.seconds", 1800),
+        AppConfig.getString("auth.token.cookie.name", "AUTH_TOKEN"));
+    
+    private final boolean tokenMode;
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    private final String cookieName;
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<byte[]> signatureBuffers = ThreadLocal.withInitial(() -> new byte[SIGNATURE_LENGTH]);
+    
+    AuthTokenService(String mode, String secret, long ttlSeconds, String cookieName) {
+        this.tokenMode = MODE_TOKEN.equalsIgnoreCase(mode);
+        this.ttlSeconds = ttlSeconds;
+        this.cookieName = cookieName;
+        
+        byte[] secretBytes;
+        if (secret == null || secret.isEmpty()) {
+            // Random per-process key: tokens are only valid on the node that issued them
+            secretBytes = new byte[SIGNATURE_LENGTH];
+            new SecureRandom().nextBytes(secretBytes);
+            if (tokenMode) {
+                LOG.warn("auth.token.secret is not set, using a random key; "
+                    + "tokens will not be accepted by other nodes or after a restart");
+            }
+        } else {
+            secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::createMac);
+    }
+    
+    /**
+     * Get shared service instance
+     * @return AuthTokenService instance
+     */
+    public static AuthTokenService getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * @return true if login state is carried by signed token cookies instead of the session
+     */
+    public boolean isTokenMode() {
+        return tokenMode;
+    }
+    
+    /**
+     * @return Name of the token cookie
+     */
+    public String getCookieName() {
+        return cookieName;
+    }
+    
+    /**
+     * Issue a signed token for a user
+     * @param userId User ID
+     * @return Encoded token
+     */
+    public String issue(int userId) {
+        long issuedAt = System.currentTimeMillis() / 1000;
+        String payload = userId + "." + issuedAt + "." + (issuedAt + ttlSeconds);
+        
+        Mac mac = macs.get();
+        byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+    
+    /**
+     * Verify a token
+     * @param token Encoded token
+     * @return Claims, null if the token is malformed, forged or expired
+     */
+    public AuthToken verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int signatureStart = token.lastIndexOf('.') + 1;
+        if (signatureStart <= 0 || token.length() - signatureStart != ENCODED_SIGNATURE_LENGTH) {
+            return null;
+        }
+        
+        // Parse userId.issuedAt.expiresAt
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || secondDot + 1 >= signatureStart - 1) {
+            return null;
+        }
+        long userId = parseNumber(token, 0, firstDot);
+        long issuedAt = parseNumber(token, firstDot + 1, secondDot);
+        long expiresAt = parseNumber(token, secondDot + 1, signatureStart - 1);
+        if (userId <= 0 || userId > Integer.MAX_VALUE || issuedAt < 0 || expiresAt < 0) {
+            return null;
+        }
+        
+        // Sign the payload characters directly to avoid copying them into a byte array
+        Mac mac = macs.get();
+        for (int i = 0; i < signatureStart - 1; i++) {
+            mac.update((byte) token.charAt(i));
+        }
+        byte[] expected = signatureBuffers.get();
+        try {
+            mac.doFinal(expected, 0);
+        } catch (ShortBufferException e) {
+            return null;
+        }
+        if (!signatureMatches(token, signatureStart, expected)) {
+            return null;
+        }
+        
+        if (expiresAt <= System.currentTimeMillis() / 1000) {
+            return null;
+        }
+        return new AuthToken((int) userId, issuedAt, expiresAt);
+    }
+    
+    /**
+     * Read and verify the token cookie of a request
+     * @param request Current request
+     * @return Claims, null if there is no valid token
+     */
+    public AuthToken verify(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                return verify(cookie.getValue());
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Build the cookie carrying a newly issued token
+     * @param request Current request
+     * @param userId User ID
+     * @return Token cookie
+     */
+    public Cookie createCookie(HttpServletRequest request, int userId) {
+        Cookie cookie = newCookie(request, issue(userId));
+        cookie.setMaxAge((int) ttlSeconds);
+        return cookie;
+    }
+    
+    /**
+     * Build a cookie that removes the token from the browser
+     * @param request Current request
+     * @return Expired token cookie
+     */
+    public Cookie createClearingCookie(HttpServletRequest request) {
+        Cookie cookie = newCookie(request, "");
+        cookie.setMaxAge(0);
+        return cookie;
+    }
+    
+    private Cookie newCookie(HttpServletRequest request, String value) {
+        Cookie cookie = new Cookie(cookieName, value);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        String path = request.getContextPath();
+        cookie.setPath(path == null || path.isEmpty() ? "/" : path);
+        return cookie;
+    }
+    
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+    
+    /**
+     * Parse a non-negative decimal number without creating a substring
+     * @return Parsed value, -1 if the range is empty, too long or not numeric
+     */
+    private static long parseNumber(String text, int start, int end) {
+        if (end <= start || end - start > 18) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+    
+    /**
+     * Decode the base64url signature in place and compare in constant time
+     */
+    private static boolean signatureMatches(String token, int start, byte[] expected) {
+        int diff = 0;
+        int bits = 0;
+        int bitCount = 0;
+        int index = 0;
+        for (int i = start; i < token.length(); i++) {
+            char c = token.charAt(i);
+            int value = c < 128 ? BASE64URL_VALUES[c] : -1;
+            if (value < 0) {
+                return false;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                diff |= expected[index++] ^ (byte) (bits >> bitCount);
+            }
+        }
+        // The unused low bits of the last character must be zero, so each signature has one encoding
+        if ((bits & ((1 << bitCount) - 1)) != 0) {
+            return false;
+        }
+        return index == expected.length && diff == 0;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.webapp.security;
+
+import com.example.webapp.util.AppConfig;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Login Rate Limiter
+ * Limits login attempts per username and per client IP with sliding-window
+ * counters, so that a credential-stuffing burst is rejected before any
+ * database query or BCrypt check runs.
+ *
+ * Each key keeps the attempt counts of the current and the previous fixed
+ * window packed into a single AtomicLong; the sliding count is the current
+ * count plus the previous count weighted by how much of the previous window
+ * still overlaps. Updates are a CAS loop, so no locks are taken. The number
+ * of tracked keys is bounded: cold keys are swept out when the bound is hit.
+ */
+public class LoginRateLimiter {
+    
+    // State layout: [window index: 24 bits][current count: 20 bits][previous count: 20 bits]
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long INDEX_MASK = (1L << 24) - 1;
+    
+    private static final LoginRateLimiter INSTANCE = new LoginRateLimiter(
+        AppConfig.getBoolean("login.ratelimit.enabled", true),
+        AppConfig.getLong("login.ratelimit.window.ms", 60000),
+        AppConfig.getInt("login.ratelimit.username.max", 10),
+        AppConfig.getInt("login.ratelimit.ip.max", 50),
+        AppConfig.getInt("login.ratelimit.max.keys", 100000));
+    
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int usernameLimit;
+    private final int ipLimit;
+    private final int maxKeys;
+    
+    private final ConcurrentHashMap<String, Window> usernameWindows = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Window> ipWindows = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    
+    // Metrics
+    private final LongAdder rejectedByUsername = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder evictedKeys = new LongAdder();
+    
+    /**
+     * Create rate limiter
+     * @param enabled false to allow every attempt
+     * @param windowMillis Window length
+     * @param usernameLimit Attempts allowed per username per window
+     * @param ipLimit Attempts allowed per client IP per window
+     * @param maxKeys Maximum number of tracked keys per dimension
+     */
+    public LoginRateLimiter(boolean enabled, long windowMillis, int usernameLimit, int ipLimit, int maxKeys) {
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.usernameLimit = usernameLimit;
+        this.ipLimit = ipLimit;
+        this.maxKeys = maxKeys;
+    }
+    
+    /**
+     * Get shared rate limiter instance
+     * @return LoginRateLimiter instance
+     */
+    public static LoginRateLimiter getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record a login attempt if it is within both limits
+     * @param username Submitted username
+     * @param clientIp Client IP address
+     * @return true if the attempt may proceed, false if it must be rejected
+     */
+    public boolean tryAcquire(String username, String clientIp) {
+        if (!enabled) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        
+        if (clientIp != null && !tryAcquire(ipWindows, clientIp, ipLimit, now)) {
+            rejectedByIp.increment();
+            return false;
+        }
+        if (username != null && !tryAcquire(usernameWindows,
+                username.trim().toLowerCase(Locale.ROOT), usernameLimit, now)) {
+            rejectedByUsername.increment();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * @return Number of attempts rejected by the per-username limit
+     */
+    public long getRejectedByUsername() {
+        return rejectedByUsername.sum();
+    }
+    
+    /**
+     * @return Number of attempts rejected by the per-IP limit
+     */
+    public long getRejectedByIp() {
+        return rejectedByIp.sum();
+    }
+    
+    /**
+     * @return Number of keys dropped to keep memory bounded
+     */
+    public long getEvictedKeys() {
+        return evictedKeys.sum();
+    }
+    
+    /**
+     * @return Number of tracked usernames and IPs
+     */
+    public int getTrackedKeys() {
+        return usernameWindows.size() + ipWindows.size();
+    }
+    
+    private boolean tryAcquire(ConcurrentHashMap<String, Window> windows, String key, int limit, long now) {
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= maxKeys) {
+                sweep(windows, now);
+            }
+            window = windows.computeIfAbsent(key, k -> new Window());
+        }
+        window.lastSeen = now;
+        return window.tryAcquire(now, windowMillis, limit);
+    }
+    
+    /**
+     * Remove keys that have been idle for two windows; if that is not enough,
+     * drop arbitrary keys until the map is back under its bound.
+     * Only one thread sweeps at a time, others proceed without waiting.
+     */
+    private void sweep(ConcurrentHashMap<String, Window> windows, long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long coldBefore = now - 2 * windowMillis;
+            Iterator<Map.Entry<String, Window>> iterator = windows.entrySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getValue().lastSeen < coldBefore) {
+                    iterator.remove();
+                    evictedKeys.increment();
+                }
+            }
+            
+            int target = maxKeys - Math.max(1, maxKeys / 10);
+            iterator = windows.entrySet().iterator();
+            while (windows.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictedKeys.increment();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+    
+    /**
+     * Sliding-window counter for one key
+     */
+    private static final class Window extends AtomicLong {
+        private static final long serialVersionUID = 1L;
+        
+        private volatile long lastSeen;
+        
+        boolean tryAcquire(long now, long windowMillis, int limit) {
+            long currentIndex = (now / windowMillis) & INDEX_MASK;
+            long elapsed = now % windowMillis;
+            
+            while (true) {
+                long state = get();
+                long index = state >>> (2 * COUNT_BITS);
+                long current = (state >>> COUNT_BITS) & COUNT_MASK;
+                long previous = state & COUNT_MASK;
+                
+                if (index != currentIndex) {
+                    // Roll over: the old current window becomes the previous one if adjacent
+                    previous = ((index + 1) & INDEX_MASK) == currentIndex ? current : 0;
+                    current = 0;
+                    index = currentIndex;
+                }
+                
+                double weightedCount = current + previous * (double) (windowMillis - elapsed) / windowMillis;
+                if (weightedCount >= limit) {
+                    return false;
+                }
+                
+                long next = (index << (2 * COUNT_BITS))
+                    | (Math.min(current + 1, COUNT_MASK) << COUNT_BITS)
+                    | previous;
+                if (compareAndSet(state, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.webapp.service;
+
+import com.example.webapp.dao.UserActivityDAO;
+import com.example.webapp.model.UserActivity;
+import com.example.webapp.util.AppConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Activity Logger
+ * Records user activities without a synchronous INSERT on the request path.
+ * Requests publish into a bounded ring buffer; a background writer drains it
+ * and writes JDBC batches of up to the flush size, at least once per flush
+ * interval while events are pending.
+ *
+ * When the buffer is full, the DROP policy discards the event immediately and
+ * the BLOCK policy waits up to the configured timeout before discarding it.
+ */
+public class ActivityLogger {
+    
+    public static final String POLICY_DROP = "drop";
+    public static final String POLICY_BLOCK = "block";
+    
+    private static final ActivityLogger INSTANCE = new ActivityLogger(
+        new UserActivityDAO(),
+        AppConfig.getInt("activity.buffer.capacity", 8192),
+        AppConfig.getInt("activity.flush.size", 200),
+        AppConfig.getLong("activity.flush.interval.ms", 1000),
+        AppConfig.getString("activity.overflow.policy", POLICY_DROP),
+        AppConfig.getLong("activity.block.timeout.ms", 50));
+    
+    private final UserActivityDAO activityDAO;
+    private final ArrayBlockingQueue<UserActivity> buffer;
+    private final int flushSize;
+    private final long flushIntervalMs;
+    private final boolean blockWhenFull;
+    private final long blockTimeoutMs;
+    private final Thread writer;
+    private volatile boolean running = true;
+    
+    // Metrics
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    
+    ActivityLogger(UserActivityDAO activityDAO, int capacity, int flushSize, long flushIntervalMs,
+                   String overflowPolicy, long blockTimeoutMs) {
+        this.activityDAO = activityDAO;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.flushSize = flushSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.blockWhenFull = POLICY_BLOCK.equalsIgnoreCase(overflowPolicy);
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.writer = new Thread(this::drainLoop, "activity-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+    
+    /**
+     * Get shared logger instance
+     * @return ActivityLogger instance
+     */
+    public static ActivityLogger getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Publish an activity for asynchronous writing
+     * @param userId User ID
+     * @param activityType Activity type, see UserActivity constants
+     * @param description Activity description
+     * @param ipAddress Client IP address
+     */
+    public void log(int userId, String activityType, String description, String ipAddress) {
+        UserActivity activity = new UserActivity(userId, activityType, description, ipAddress);
+        boolean accepted;
+        if (blockWhenFull) {
+            try {
+                accepted = buffer.offer(activity, blockTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = buffer.offer(activity);
+        }
+        
+        if (accepted) {
+            published.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+    
+    /**
+     * Stop the writer after flushing everything still buffered
+     */
+    public void shutdown() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * @return Number of events waiting to be written
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+    
+    /**
+     * @return Number of events accepted into the buffer
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+    
+    /**
+     * @return Number of events discarded because the buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    /**
+     * @return Number of events written to the database
+     */
+    public long getWrittenCount() {
+        return written.sum();
+    }
+    
+    /**
+     * @return Number of events lost because a batch insert failed
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+    
+    private void drainLoop() {
+        List<UserActivity> batch = new ArrayList<>(flushSize);
+        long nextFlush = System.currentTimeMillis() + flushIntervalMs;
+        
+        while (running || !buffer.isEmpty()) {
+            try {
+                long wait = Math.max(0, nextFlush - System.currentTimeMillis());
+                UserActivity activity = running ? buffer.poll(wait, TimeUnit.MILLISECONDS) : buffer.poll();
+                if (activity != null) {
+                    batch.add(activity);
+                    buffer.drainTo(batch, flushSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // Shutdown requested; keep draining what is left
+            }
+            
+            long now = System.currentTimeMillis();
+            if (batch.size() >= flushSize || now >= nextFlush || !running) {
+                flush(batch);
+                nextFlush = now + flushIntervalMs;
+            }
+        }
+        flush(batch);
+    }
+    
+    private void flush(List<UserActivity> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (activityDAO.insertBatch(batch)) {
+            written.add(batch.size());
+        } else {
+            failed.add(batch.size());
+        }
+        batch.clear();
+    }
+}
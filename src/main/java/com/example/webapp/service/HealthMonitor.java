@@ -0,0 +1,274 @@
+package com.example.webapp.service;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.util.AppConfig;
+import com.example.webapp.util.ConnectionPool;
+import com.example.webapp.util.DatabaseUtil;
+import com.example.webapp.util.ReplicaRouter;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Health Monitor
+ * A background prober runs the validation query on a pooled connection every
+ * health.probe.interval.ms and samples the pool, so health endpoints answer
+ * from memory and load balancer checks never touch the database themselves.
+ *
+ * The node is ready when the last probe is recent, the database answered
+ * (once ready, up to health.ready.failure.threshold - 1 failures in a row are
+ * tolerated), and no more than health.ready.max.waiting threads are queued for
+ * a pooled connection.
+ * After the context starts shutting down it reports not ready.
+ */
+public class HealthMonitor {
+
+    private static final Logger LOG = LogManager.getLogger(HealthMonitor.class);
+
+    private static final HealthMonitor INSTANCE = new HealthMonitor(
+        AppConfig.getLong("health.probe.interval.ms", 2000),
+        AppConfig.getLong("health.probe.timeout.ms", 1000),
+        AppConfig.getInt("health.ready.failure.threshold", 2),
+        AppConfig.getInt("health.ready.max.waiting", 20));
+
+    private final long intervalMs;
+    private final long timeoutMs;
+    private final int failureThreshold;
+    private final int maxWaiting;
+    private final ScheduledExecutorService prober;
+
+    private volatile Status status = Status.starting();
+    private volatile boolean started;
+    private volatile boolean draining;
+
+    // Only touched by the prober thread
+    private int consecutiveFailures;
+
+    HealthMonitor(long intervalMs, long timeoutMs, int failureThreshold, int maxWaiting) {
+        this.intervalMs = Math.max(100, intervalMs);
+        this.timeoutMs = Math.max(100, timeoutMs);
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.maxWaiting = Math.max(0, maxWaiting);
+        this.prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-prober");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get shared monitor instance
+     * @return HealthMonitor instance
+     */
+    public static HealthMonitor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start probing; the first probe runs immediately
+     */
+    public synchronized void start() {
+        if (!started) {
+            started = true;
+            prober.scheduleWithFixedDelay(this::probe, 0, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Report not ready from now on and stop probing
+     */
+    public void shutdown() {
+        draining = true;
+        prober.shutdownNow();
+    }
+
+    /**
+     * Get the latest probe result
+     * @return Cached status; not ready if the last probe is older than three intervals
+     */
+    public Status getStatus() {
+        Status current = status;
+        if (draining) {
+            return current.withReason("shutting down");
+        }
+        if (current.ready && System.currentTimeMillis() - current.checkedAt > intervalMs * 3) {
+            return current.withReason("health probe is stale");
+        }
+        return current;
+    }
+
+    /**
+     * @return 1 if the node is ready, otherwise 0
+     */
+    public int getReadyValue() {
+        return getStatus().isReady() ? 1 : 0;
+    }
+
+    /**
+     * Run one probe and publish its result
+     */
+    void probe() {
+        long start = System.nanoTime();
+        boolean databaseUp;
+        boolean poolExhausted = false;
+        String error = null;
+        try {
+            DatabaseUtil.validate(timeoutMs);
+            databaseUp = true;
+            consecutiveFailures = 0;
+        } catch (SQLTransientConnectionException e) {
+            // No pooled connection came free in time: the node is overloaded, not the database down
+            databaseUp = status.databaseUp;
+            poolExhausted = true;
+            error = e.getMessage();
+        } catch (SQLException | RuntimeException e) {
+            databaseUp = false;
+            error = e.getMessage();
+            if (++consecutiveFailures == failureThreshold) {
+                LOG.warn("Database health probe failed {} times in a row: {}", consecutiveFailures, error);
+            }
+        }
+        long latencyMicros = (System.nanoTime() - start) / 1000;
+
+        int active = 0;
+        int max = 0;
+        int waiting = 0;
+        ConnectionPool pool = DatabaseUtil.getConnectionPool();
+        if (pool != null) {
+            active = pool.getActiveConnections();
+            max = pool.getMaxSize();
+            waiting = pool.getWaitingThreads();
+        }
+        int healthyReplicas = 0;
+        int replicas = 0;
+        ReplicaRouter router = DatabaseUtil.getReplicaRouter();
+        if (router != null) {
+            healthyReplicas = router.getHealthyReplicaCount();
+            replicas = router.getReplicaCount();
+        }
+
+        // A ready node rides out isolated probe failures; a node that is not ready needs a success
+        Status previous = status;
+        String reason = null;
+        if (!databaseUp && (consecutiveFailures >= failureThreshold || !previous.ready)) {
+            reason = "database unavailable";
+        } else if (poolExhausted || waiting > maxWaiting) {
+            reason = "connection pool saturated";
+        }
+
+        Status next = new Status(reason == null, reason, databaseUp, error, latencyMicros,
+            System.currentTimeMillis(), active, max, waiting, healthyReplicas, replicas);
+        if (previous.ready != next.ready) {
+            LOG.info("Readiness changed to {}{}", next.ready ? "ready" : "not ready",
+                next.reason == null ? "" : " (" + next.reason + ")");
+        }
+        status = next;
+    }
+
+    /**
+     * Immutable result of one health probe
+     */
+    public static final class Status {
+
+        private final boolean ready;
+        private final String reason;
+        private final boolean databaseUp;
+        private final String error;
+        private final long latencyMicros;
+        private final long checkedAt;
+        private final int activeConnections;
+        private final int maxConnections;
+        private final int waitingThreads;
+        private final int healthyReplicas;
+        private final int replicas;
+
+        Status(boolean ready, String reason, boolean databaseUp, String error, long latencyMicros,
+               long checkedAt, int activeConnections, int maxConnections, int waitingThreads,
+               int healthyReplicas, int replicas) {
+            this.ready = ready;
+            this.reason = reason;
+            this.databaseUp = databaseUp;
+            this.error = error;
+            this.latencyMicros = latencyMicros;
+            this.checkedAt = checkedAt;
+            this.activeConnections = activeConnections;
+            this.maxConnections = maxConnections;
+            this.waitingThreads = waitingThreads;
+            this.healthyReplicas = healthyReplicas;
+            this.replicas = replicas;
+        }
+
+        static Status starting() {
+            return new Status(false, "no health probe has run yet", false, null, 0, 0, 0, 0, 0, 0, 0);
+        }
+
+        Status withReason(String newReason) {
+            return new Status(false, newReason, databaseUp, error, latencyMicros, checkedAt,
+                activeConnections, maxConnections, waitingThreads, healthyReplicas, replicas);
+        }
+
+        public boolean isReady() {
+            return ready;
+        }
+
+        /**
+         * @return Why the node is not ready, null when ready
+         */
+        public String getReason() {
+            return reason;
+        }
+
+        public boolean isDatabaseUp() {
+            return databaseUp;
+        }
+
+        /**
+         * @return Message of the last probe failure, null if it succeeded
+         */
+        public String getError() {
+            return error;
+        }
+
+        public long getLatencyMicros() {
+            return latencyMicros;
+        }
+
+        /**
+         * @return Time of the probe in epoch milliseconds, 0 before the first probe
+         */
+        public long getCheckedAt() {
+            return checkedAt;
+        }
+
+        public int getActiveConnections() {
+            return activeConnections;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public int getWaitingThreads() {
+            return waitingThreads;
+        }
+
+        /**
+         * @return Borrowed share of the writer pool, 0.0 to 1.0
+         */
+        public double getPoolSaturation() {
+            return maxConnections == 0 ? 0.0 : (double) activeConnections / maxConnections;
+        }
+
+        public int getHealthyReplicas() {
+            return healthyReplicas;
+        }
+
+        public int getReplicas() {
+            return replicas;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.webapp.service;
+
+import com.example.webapp.dao.UserDAO;
+import com.example.webapp.util.AppConfig;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * User Statistics Service
+ * Serves the total user count from memory. The count is loaded with a COUNT(*)
+ * query, bumped in place when a user registers, and reconciled with the
+ * database once the configured staleness window has passed.
+ */
+public class UserStatsService {
+    
+    private static final UserStatsService INSTANCE = new UserStatsService(
+        new UserDAO(), AppConfig.getLong("stats.users.staleness.ms", 300000));
+    
+    private final UserDAO userDAO;
+    private final long stalenessMs;
+    private final AtomicLong totalUsers = new AtomicLong(-1);
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long refreshedAt;
+    
+    UserStatsService(UserDAO userDAO, long stalenessMs) {
+        this.userDAO = userDAO;
+        this.stalenessMs = stalenessMs;
+    }
+    
+    /**
+     * Get shared service instance
+     * @return UserStatsService instance
+     */
+    public static UserStatsService getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get total number of registered users
+     * Only the first call and one call per staleness window query the database;
+     * concurrent callers keep getting the cached value while that query runs.
+     * @return Total users, 0 if the count could not be loaded yet
+     */
+    public int getTotalUsers() {
+        long count = totalUsers.get();
+        boolean stale = System.currentTimeMillis() - refreshedAt >= stalenessMs;
+        
+        if ((count < 0 || stale) && refreshing.compareAndSet(false, true)) {
+            try {
+                int loaded = userDAO.countUsers();
+                if (loaded >= 0) {
+                    totalUsers.set(loaded);
+                    refreshedAt = System.currentTimeMillis();
+                    count = loaded;
+                }
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        
+        return (int) Math.max(count, 0);
+    }
+    
+    /**
+     * Record a successful registration without querying the database
+     */
+    public void recordUserCreated() {
+        // Nothing cached yet: the first getTotalUsers() call will count the new row
+        totalUsers.getAndUpdate(count -> count >= 0 ? count + 1 : count);
+    }
+}
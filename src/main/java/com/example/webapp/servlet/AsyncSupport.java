@@ -0,0 +1,123 @@
+package com.example.webapp.servlet;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.util.AppConfig;
+import com.example.webapp.util.RequestExecutor;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Async Request Helpers
+ * Shared handling for servlets that move password hashing or blocking database
+ * work off the container thread. BCrypt runs on PasswordHashExecutor; database
+ * work never does, so a slow database cannot tie up the CPU-sized hash workers.
+ */
+final class AsyncSupport {
+    
+    private static final Logger LOG = LogManager.getLogger(AsyncSupport.class);
+    
+    private static final long ASYNC_TIMEOUT_MS = AppConfig.getLong("password.hash.async.timeout.ms", 10000);
+    private static final String RETRY_AFTER_SECONDS = "1";
+    
+    private AsyncSupport() {
+    }
+    
+    /**
+     * Put the request into async mode; a timed out request is answered with 503
+     * @param request Current request
+     * @return Started async context
+     */
+    static AsyncContext start(HttpServletRequest request) {
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(ASYNC_TIMEOUT_MS);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                sendOverloaded((HttpServletResponse) event.getSuppliedResponse());
+                event.getAsyncContext().complete();
+            }
+            
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+            
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+            
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+        return asyncContext;
+    }
+    
+    /**
+     * Finish an async request by rendering a page or, if the response was
+     * already redirected, by completing it
+     * @param asyncContext Async context
+     * @param view JSP to render, null if the response is already committed
+     */
+    static void finish(AsyncContext asyncContext, String view) {
+        try {
+            if (view != null) {
+                asyncContext.dispatch(view);
+            } else {
+                asyncContext.complete();
+            }
+        } catch (IllegalStateException e) {
+            // Request already timed out and was answered by the timeout listener
+            LOG.warn("Async request finished after timeout: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Run blocking database work for an async request from a non-container thread
+     * Uses a virtual thread in virtual mode, otherwise a container thread through
+     * AsyncContext.start.
+     * @param asyncContext Async context of the request
+     * @param task Work that finishes the request
+     * @throws RejectedExecutionException If too many requests are in flight on virtual threads
+     */
+    static void runBlocking(AsyncContext asyncContext, Runnable task) {
+        RequestExecutor executor = RequestExecutor.getInstance();
+        if (executor.isVirtual()) {
+            executor.execute(task);
+        } else {
+            asyncContext.start(task);
+        }
+    }
+    
+    /**
+     * Answer an async request with 503 and complete it
+     * @param asyncContext Async context of the request
+     */
+    static void reject(AsyncContext asyncContext) {
+        try {
+            sendOverloaded((HttpServletResponse) asyncContext.getResponse());
+            asyncContext.complete();
+        } catch (IOException | IllegalStateException e) {
+            LOG.warn("Could not reject async request: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Reject a request because the worker queue is full
+     * @param response Current response
+     * @throws IOException If sending the error fails
+     */
+    static void sendOverloaded(HttpServletResponse response) throws IOException {
+        if (!response.isCommitted()) {
+            response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                "Server is busy, please try again shortly");
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.webapp.servlet;
+
+import com.example.webapp.service.HealthMonitor;
+import com.example.webapp.util.JsonUtil;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Health Servlet
+ * GET /health/live  200 while the application is deployed and serving requests
+ * GET /health/ready 200 when the node should receive traffic, otherwise 503
+ *
+ * Both answer from HealthMonitor's cached probe result without touching the
+ * database, so load balancers can poll them as often as they like. The ready
+ * body reports pool saturation so an overloaded node can be drained before
+ * its requests start timing out.
+ */
+public class HealthServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        String path = request.getPathInfo();
+        if ("/live".equals(path)) {
+            Writer out = openJson(response);
+            out.write("{\"status\":\"UP\"}");
+            out.flush();
+        } else if ("/ready".equals(path)) {
+            writeReadiness(response, HealthMonitor.getInstance().getStatus());
+        } else {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+
+    private void writeReadiness(HttpServletResponse response, HealthMonitor.Status status) throws IOException {
+        if (!status.isReady()) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+        Writer out = openJson(response);
+        out.write("{\"status\":");
+        out.write(status.isReady() ? "\"UP\"" : "\"DOWN\"");
+        out.write(",\"reason\":");
+        JsonUtil.writeString(out, status.getReason());
+
+        out.write(",\"database\":{\"up\":");
+        out.write(Boolean.toString(status.isDatabaseUp()));
+        out.write(",\"probeLatencyMs\":");
+        out.write(String.format(Locale.ROOT, "%.3f", status.getLatencyMicros() / 1000.0));
+        out.write(",\"checkedAgoMs\":");
+        out.write(status.getCheckedAt() == 0 ? "null"
+            : Long.toString(System.currentTimeMillis() - status.getCheckedAt()));
+
+        out.write("},\"pool\":{\"active\":");
+        out.write(Integer.toString(status.getActiveConnections()));
+        out.write(",\"max\":");
+        out.write(Integer.toString(status.getMaxConnections()));
+        out.write(",\"waiting\":");
+        out.write(Integer.toString(status.getWaitingThreads()));
+        out.write(",\"saturation\":");
+        out.write(String.format(Locale.ROOT, "%.2f", status.getPoolSaturation()));
+
+        out.write("},\"replicas\":{\"healthy\":");
+        out.write(Integer.toString(status.getHealthyReplicas()));
+        out.write(",\"total\":");
+        out.write(Integer.toString(status.getReplicas()));
+        out.write("}}");
+        out.flush();
+    }
+
+    /**
+     * Prepare an uncached UTF-8 JSON response
+     */
+    private Writer openJson(HttpServletResponse response) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+        return new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8);
+    }
+}
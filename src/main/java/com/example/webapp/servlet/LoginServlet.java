@@ -1,114 +1,223 @@
-package com.example.webapp.servlet;
-
-import com.example.webapp.dao.UserDAO;
-import com.example.webapp.model.User;
-
-import javax.servlet.ServletException;
-import javax.servlet.annotation.WebServlet;
-import javax.servlet.http.HttpServlet;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
-import java.io.IOException;
-
-/**
- * Login Servlet
- * Handles user login validation and session management
- */
-// @WebServlet("/login")
-public class LoginServlet extends HttpServlet {
-    
-    private static final long serialVersionUID = 1L;
-    private UserDAO userDAO;
-    
-    @Override
-    public void init() throws ServletException {
-        super.init();
-        userDAO = new UserDAO();
-    }
-    
-    @Override
-    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
-            throws ServletException, IOException {
-        // If user is already logged in, redirect to welcome page
-        HttpSession session = request.getSession(false);
-        if (session != null && session.getAttribute("user") != null) {
-            response.sendRedirect("welcome");
-            return;
-        }
-        
-        // Display login page
-        request.getRequestDispatcher("/login.jsp").forward(request, response);
-    }
-    
-    @Override
-    protected void doPost(HttpServletRequest request, HttpServletResponse response) 
-            throws ServletException, IOException {
-        
-        // Set request and response character encoding
-        request.setCharacterEncoding("UTF-8");
-        response.setContentType("text/html; charset=UTF-8");
-        
-        // Get login parameters
-        String username = request.getParameter("username");
-        String password = request.getParameter("password");
-        
-        // Validate input parameters
-        if (username == null || username.trim().isEmpty() || 
-            password == null || password.trim().isEmpty()) {
-            request.setAttribute("errorMessage", "Username and password cannot be empty!");
-            request.getRequestDispatcher("/login.jsp").forward(request, response);
-            return;
-        }
-        
-        try {
-            // Add debug information
-            System.out.println("=== Login Debug Info ===");
-            System.out.println("Attempting login - Username: '" + username + "', Password: '" + password + "'");
-            
-            // Validate user login
-            User user = userDAO.validateLogin(username.trim(), password);
-            
-            System.out.println("Login validation result: " + (user != null ? "Success" : "Failed"));
-            if (user != null) {
-                System.out.println("User found: " + user.getUsername() + " (ID: " + user.getId() + ")");
-            }
-            
-            if (user != null) {
-                // Login successful, create session
-                HttpSession session = request.getSession();
-                session.setAttribute("user", user);
-                session.setAttribute("loginTime", new java.util.Date());
-                
-                System.out.println("User login successful, redirecting to welcome page");
-                
-                // Redirect to welcome page
-                response.sendRedirect("welcome");
-            } else {
-                // Login failed
-                System.out.println("Login failed - Invalid username or password");
-                request.setAttribute("errorMessage", "Invalid username or password!");
-                request.setAttribute("username", username); // Keep username
-                request.getRequestDispatcher("/login.jsp").forward(request, response);
-            }
-            
-        } catch (Exception e) {
-            // Handle exceptions
-            System.err.println("Error occurred during login: " + e.getMessage());
-            e.printStackTrace();
-            request.setAttribute("errorMessage", "An error occurred during login, please try again later!");
-            request.getRequestDispatcher("/login.jsp").forward(request, response);
-        }
-    }
-    
-    @Override
-    protected void doDelete(HttpServletRequest request, HttpServletResponse response) 
-            throws ServletException, IOException {
-        // Handle logout request
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            session.invalidate();
-        }
-        response.sendRedirect("login");
-    }
-}
+package com.example.webapp.servlet;
+
+import com.example.webapp.dao.CachingUserDAO;
+import com.example.webapp.dao.UserDAO;
+import com.example.webapp.filter.AuthTokenFilter;
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.model.User;
+import com.example.webapp.model.UserActivity;
+import com.example.webapp.security.AuthTokenService;
+import com.example.webapp.security.LoginRateLimiter;
+import com.example.webapp.service.ActivityLogger;
+import com.example.webapp.session.PersistentSessionStore;
+import com.example.webapp.session.SessionPrincipal;
+import com.example.webapp.util.AppConfig;
+import com.example.webapp.util.PasswordHashExecutor;
+import com.example.webapp.util.RequestExecutor;
+import com.example.webapp.util.RequestUtil;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Login Servlet
+ * Handles user login validation and session management
+ * The credentials lookup runs on the request thread (a virtual thread in virtual
+ * mode); only password verification runs on the password hashing executor
+ */
+// @WebServlet("/login")
+public class LoginServlet extends HttpServlet {
+    
+    private static final Logger LOG = LogManager.getLogger(LoginServlet.class);
+    
+    private static final long serialVersionUID = 1L;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final long RATE_LIMIT_RETRY_SECONDS =
+        Math.max(1, AppConfig.getLong("login.ratelimit.window.ms", 60000) / 1000);
+    private UserDAO userDAO;
+    
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        userDAO = CachingUserDAO.getSharedInstance();
+    }
+    
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        // If user is already logged in, redirect to welcome page
+        HttpSession session = request.getSession(false);
+        if ((session != null && session.getAttribute("user") != null)
+                || AuthTokenFilter.getToken(request) != null) {
+            response.sendRedirect("welcome");
+            return;
+        }
+        
+        // Display login page
+        request.getRequestDispatcher("/login.jsp").forward(request, response);
+    }
+    
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        
+        // Set request and response character encoding
+        request.setCharacterEncoding("UTF-8");
+        response.setContentType("text/html; charset=UTF-8");
+        
+        // Get login parameters
+        String username = request.getParameter("username");
+        String password = request.getParameter("password");
+        
+        // Validate input parameters
+        if (username == null || username.trim().isEmpty() || 
+            password == null || password.trim().isEmpty()) {
+            request.setAttribute("errorMessage", "Username and password cannot be empty!");
+            request.getRequestDispatcher("/login.jsp").forward(request, response);
+            return;
+        }
+        
+        // Reject throttled attempts before any database query or BCrypt check
+        if (!LoginRateLimiter.getInstance().tryAcquire(username, RequestUtil.getClientIp(request))) {
+            LOG.info("Login attempt throttled for user: {}", username);
+            response.setStatus(TOO_MANY_REQUESTS);
+            response.setHeader("Retry-After", String.valueOf(RATE_LIMIT_RETRY_SECONDS));
+            request.setAttribute("errorMessage", "Too many login attempts, please try again later!");
+            request.setAttribute("username", username);
+            request.getRequestDispatcher("/login.jsp").forward(request, response);
+            return;
+        }
+        
+        // Look up the credentials here (on a virtual thread in virtual mode) and verify
+        // the password on the hashing executor, so BCrypt does not block container threads
+        if (request.isAsyncSupported()) {
+            AsyncContext asyncContext = AsyncSupport.start(request);
+            RequestExecutor executor = RequestExecutor.getInstance();
+            if (executor.isVirtual()) {
+                try {
+                    executor.execute(() -> lookUpAndVerify(asyncContext, username, password));
+                } catch (RejectedExecutionException e) {
+                    LOG.warn("Too many requests in flight, rejecting login for: {}", username);
+                    AsyncSupport.reject(asyncContext);
+                }
+            } else {
+                lookUpAndVerify(asyncContext, username, password);
+            }
+            return;
+        }
+        
+        String view = authenticate(request, response, username,
+            () -> userDAO.validateLogin(username.trim(), password));
+        if (view != null) {
+            request.getRequestDispatcher(view).forward(request, response);
+        }
+    }
+    
+    /**
+     * Read the stored credentials, then hand only the BCrypt check to the hashing executor
+     * Runs on the container thread, or on a virtual thread in virtual mode.
+     * @param asyncContext Async context of the login request
+     * @param username Submitted username
+     * @param password Submitted password
+     */
+    private void lookUpAndVerify(AsyncContext asyncContext, String username, String password) {
+        HttpServletRequest request = (HttpServletRequest) asyncContext.getRequest();
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+        User credentials;
+        try {
+            credentials = userDAO.findCredentials(username.trim());
+        } catch (Exception e) {
+            LOG.error("Error occurred during login", e);
+            AsyncSupport.finish(asyncContext, loginError(request));
+            return;
+        }
+        if (credentials == null) {
+            AsyncSupport.finish(asyncContext, authenticate(request, response, username, () -> null));
+            return;
+        }
+        
+        try {
+            PasswordHashExecutor.getInstance().submit(() -> AsyncSupport.finish(asyncContext,
+                authenticate(request, response, username, () -> userDAO.verifyLogin(credentials, password))));
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Password hashing queue full, rejecting login for: {}", username);
+            AsyncSupport.reject(asyncContext);
+        }
+    }
+    
+    /**
+     * Check credentials and establish the session
+     * @param request Current request
+     * @param response Current response
+     * @param username Submitted username
+     * @param check Password check returning the verified user, null if it failed
+     * @return JSP to render, null if the response was redirected
+     */
+    private String authenticate(HttpServletRequest request, HttpServletResponse response,
+                                String username, Supplier<User> check) {
+        try {
+            // Validate user login
+            User user = check.get();
+            
+            LOG.debug("Login validation for {}: {}", username, user != null ? "success" : "failed");
+            if (user != null) {
+                LOG.debug("User found: {} (ID: {})", user.getUsername(), user.getId());
+            }
+            
+            if (user != null) {
+                AuthTokenService tokenService = AuthTokenService.getInstance();
+                if (tokenService.isTokenMode()) {
+                    // Login successful, issue signed token cookie
+                    response.addCookie(tokenService.createCookie(request, user.getId()));
+                } else {
+                    // Login successful, create session
+                    HttpSession session = request.getSession();
+                    session.setAttribute("user", SessionPrincipal.of(user, System.currentTimeMillis()));
+                    PersistentSessionStore.getInstance().register(request, session, user.getId());
+                }
+                
+                ActivityLogger.getInstance().log(user.getId(), UserActivity.LOGIN,
+                    "User logged into system", RequestUtil.getClientIp(request));
+                
+                LOG.debug("User login successful, redirecting to welcome page");
+                
+                // Redirect to welcome page
+                response.sendRedirect("welcome");
+                return null;
+            } else {
+                // Login failed
+                LOG.debug("Login failed - Invalid username or password");
+                request.setAttribute("errorMessage", "Invalid username or password!");
+                request.setAttribute("username", username); // Keep username
+                return "/login.jsp";
+            }
+            
+        } catch (Exception e) {
+            // Handle exceptions
+            LOG.error("Error occurred during login", e);
+            return loginError(request);
+        }
+    }
+    
+    private String loginError(HttpServletRequest request) {
+        request.setAttribute("errorMessage", "An error occurred during login, please try again later!");
+        return "/login.jsp";
+    }
+    
+    @Override
+    protected void doDelete(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        // Handle logout request the same way as /logout
+        LogoutServlet.logout(request, response);
+        response.sendRedirect("login");
+    }
+}
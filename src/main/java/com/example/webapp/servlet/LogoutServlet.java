@@ -1,53 +1,94 @@
-package com.example.webapp.servlet;
-
-import java.io.IOException;
-import javax.servlet.ServletException;
-import javax.servlet.http.HttpServlet;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
-
-/**
- * Logout Servlet
- * Handles user logout and session cleanup
- */
-public class LogoutServlet extends HttpServlet {
-    
-    private static final long serialVersionUID = 1L;
-    
-    @Override
-    public void init() throws ServletException {
-        System.out.println("LogoutServlet initialized");
-    }
-    
-    @Override
-    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
-            throws ServletException, IOException {
-        System.out.println("=== Logout Debug Info ===");
-        
-        // Get current session
-        HttpSession session = request.getSession(false);
-        
-        if (session != null) {
-            String username = (String) session.getAttribute("username");
-            System.out.println("Logging out user: " + username);
-            
-            // Invalidate the session
-            session.invalidate();
-            System.out.println("Session invalidated successfully");
-        } else {
-            System.out.println("No active session found");
-        }
-        
-        // Redirect to login page
-        System.out.println("Redirecting to login page");
-        response.sendRedirect("login");
-    }
-    
-    @Override
-    protected void doPost(HttpServletRequest request, HttpServletResponse response) 
-            throws ServletException, IOException {
-        // Redirect to GET method
-        doGet(request, response);
-    }
-}
+package com.example.webapp.servlet;
+
+import com.example.webapp.filter.AuthTokenFilter;
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.model.UserActivity;
+import com.example.webapp.security.AuthToken;
+import com.example.webapp.security.AuthTokenService;
+import com.example.webapp.service.ActivityLogger;
+import com.example.webapp.session.PersistentSessionStore;
+import com.example.webapp.session.SessionPrincipal;
+import com.example.webapp.util.RequestUtil;
+
+import java.io.IOException;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+/**
+ * Logout Servlet
+ * Handles user logout and session cleanup
+ */
+public class LogoutServlet extends HttpServlet {
+    
+    private static final Logger LOG = LogManager.getLogger(LogoutServlet.class);
+    
+    private static final long serialVersionUID = 1L;
+    
+    @Override
+    public void init() throws ServletException {
+        LOG.info("LogoutServlet initialized");
+    }
+    
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        logout(request, response);
+        
+        // Redirect to login page
+        LOG.debug("Redirecting to login page");
+        response.sendRedirect("login");
+    }
+    
+    /**
+     * End the caller's login, shared by every logout path
+     * Removes the session and its persisted copy, logs the LOGOUT activity and
+     * clears the auth token cookie in token mode.
+     * @param request Current request
+     * @param response Current response, not yet committed
+     */
+    static void logout(HttpServletRequest request, HttpServletResponse response) {
+        // Get current session
+        HttpSession session = request.getSession(false);
+        
+        if (session != null) {
+            SessionPrincipal principal = (SessionPrincipal) session.getAttribute("user");
+            String username = principal != null ? principal.getUsername() : null;
+            LOG.debug("Logging out user: {}", username);
+            if (principal != null) {
+                logActivity(request, principal.getUserId());
+            }
+            
+            // Invalidate the session and its persisted copy
+            PersistentSessionStore.getInstance().remove(session.getId());
+            session.invalidate();
+            LOG.debug("Session invalidated successfully");
+        } else {
+            LOG.debug("No active session found");
+        }
+        
+        // Remove the signed login token, if any
+        AuthToken token = AuthTokenFilter.getToken(request);
+        if (token != null) {
+            logActivity(request, token.getUserId());
+        }
+        if (AuthTokenService.getInstance().isTokenMode()) {
+            response.addCookie(AuthTokenService.getInstance().createClearingCookie(request));
+        }
+    }
+    
+    private static void logActivity(HttpServletRequest request, int userId) {
+        ActivityLogger.getInstance().log(userId, UserActivity.LOGOUT,
+            "User logged out", RequestUtil.getClientIp(request));
+    }
+    
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        // Redirect to GET method
+        doGet(request, response);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.webapp.servlet;
+
+import com.example.webapp.metrics.MetricsRegistry;
+import com.example.webapp.util.AppConfig;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Metrics Servlet
+ * Serves GET /metrics in the Prometheus text format. Only addresses listed
+ * in metrics.allowed.addresses may scrape; the direct peer address is used,
+ * never a forwarding header, so the list cannot be bypassed by a client.
+ */
+public class MetricsServlet extends HttpServlet {
+    
+    private static final long serialVersionUID = 1L;
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=UTF-8";
+    
+    private boolean enabled;
+    private Set<String> allowedAddresses;
+    
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        enabled = AppConfig.getBoolean("metrics.enabled", true);
+        String addresses = AppConfig.getString("metrics.allowed.addresses", "127.0.0.1,0:0:0:0:0:0:0:1");
+        Set<String> allowed = new HashSet<>();
+        for (String address : Arrays.asList(addresses.split(","))) {
+            if (!address.trim().isEmpty()) {
+                allowed.add(address.trim());
+            }
+        }
+        allowedAddresses = Collections.unmodifiableSet(allowed);
+    }
+    
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        
+        if (!enabled) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!allowedAddresses.contains("*") && !allowedAddresses.contains(request.getRemoteAddr())) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-store");
+        Writer out = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), 8192);
+        MetricsRegistry.getInstance().writePrometheus(out);
+        out.flush();
+    }
+}
@@ -1,126 +1,190 @@
-package com.example.webapp.servlet;
-
-import com.example.webapp.dao.UserDAO;
-import com.example.webapp.model.User;
-import com.example.webapp.util.PasswordUtil;
-
-import javax.servlet.ServletException;
-import javax.servlet.http.HttpServlet;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-import java.io.IOException;
-
-/**
- * User Registration Servlet
- * Handles new user registration with password security
- */
-public class RegisterServlet extends HttpServlet {
-    
-    private static final long serialVersionUID = 1L;
-    private UserDAO userDAO;
-    
-    @Override
-    public void init() throws ServletException {
-        super.init();
-        userDAO = new UserDAO();
-    }
-    
-    @Override
-    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
-            throws ServletException, IOException {
-        // Pass password requirements to JSP
-        request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
-        request.getRequestDispatcher("/register.jsp").forward(request, response);
-    }
-    
-    @Override
-    protected void doPost(HttpServletRequest request, HttpServletResponse response) 
-            throws ServletException, IOException {
-        
-        request.setCharacterEncoding("UTF-8");
-        response.setContentType("text/html; charset=UTF-8");
-        
-        // Get parameters
-        String username = request.getParameter("username");
-        String password = request.getParameter("password");
-        String confirmPassword = request.getParameter("confirmPassword");
-        String email = request.getParameter("email");
-        String fullName = request.getParameter("fullName");
-        
-        // Validate input
-        if (username == null || username.trim().isEmpty() ||
-            password == null || password.trim().isEmpty() ||
-            email == null || email.trim().isEmpty() ||
-            fullName == null || fullName.trim().isEmpty()) {
-            request.setAttribute("errorMessage", "All fields are required!");
-            request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
-            request.getRequestDispatcher("/register.jsp").forward(request, response);
-            return;
-        }
-        
-        // Check password confirmation
-        if (!password.equals(confirmPassword)) {
-            request.setAttribute("errorMessage", "Passwords do not match!");
-            request.setAttribute("username", username);
-            request.setAttribute("email", email);
-            request.setAttribute("fullName", fullName);
-            request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
-            request.getRequestDispatcher("/register.jsp").forward(request, response);
-            return;
-        }
-        
-        // Check password strength
-        if (!PasswordUtil.isPasswordStrong(password)) {
-            request.setAttribute("errorMessage", PasswordUtil.getPasswordRequirements() + "!");
-            request.setAttribute("username", username);
-            request.setAttribute("email", email);
-            request.setAttribute("fullName", fullName);
-            request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
-            request.getRequestDispatcher("/register.jsp").forward(request, response);
-            return;
-        }
-        
-        try {
-            // Check if username already exists
-            if (userDAO.findByUsername(username.trim()) != null) {
-                request.setAttribute("errorMessage", "Username already exists!");
-                request.setAttribute("username", username);
-                request.setAttribute("email", email);
-                request.setAttribute("fullName", fullName);
-                request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
-                request.getRequestDispatcher("/register.jsp").forward(request, response);
-                return;
-            }
-            
-            // Create new user with hashed password
-            User newUser = new User();
-            newUser.setUsername(username.trim());
-            newUser.setPassword(PasswordUtil.hashPassword(password)); // Hash password
-            newUser.setEmail(email.trim());
-            newUser.setFullName(fullName.trim());
-            
-            // Save user to database
-            if (userDAO.createUser(newUser)) {
-                request.setAttribute("successMessage", "Registration successful! Please login with your credentials.");
-                request.getRequestDispatcher("/login.jsp").forward(request, response);
-            } else {
-                request.setAttribute("errorMessage", "Registration failed! Please try again.");
-                request.setAttribute("username", username);
-                request.setAttribute("email", email);
-                request.setAttribute("fullName", fullName);
-                request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
-                request.getRequestDispatcher("/register.jsp").forward(request, response);
-            }
-            
-        } catch (Exception e) {
-            System.err.println("Error during registration: " + e.getMessage());
-            e.printStackTrace();
-            request.setAttribute("errorMessage", "An error occurred during registration, please try again later!");
-            request.setAttribute("username", username);
-            request.setAttribute("email", email);
-            request.setAttribute("fullName", fullName);
-            request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
-            request.getRequestDispatcher("/register.jsp").forward(request, response);
-        }
-    }
-}
+package com.example.webapp.servlet;
+
+import com.example.webapp.dao.CachingUserDAO;
+import com.example.webapp.dao.RegistrationResult;
+import com.example.webapp.dao.UserDAO;
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.model.User;
+import com.example.webapp.model.UserActivity;
+import com.example.webapp.service.ActivityLogger;
+import com.example.webapp.service.UserStatsService;
+import com.example.webapp.util.PasswordHashExecutor;
+import com.example.webapp.util.PasswordUtil;
+import com.example.webapp.util.RequestUtil;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * User Registration Servlet
+ * Handles new user registration with password security
+ * Password hashing runs asynchronously on the password hashing executor; the
+ * insert runs on a container thread, or a virtual thread in virtual mode
+ */
+public class RegisterServlet extends HttpServlet {
+    
+    private static final Logger LOG = LogManager.getLogger(RegisterServlet.class);
+    
+    private static final long serialVersionUID = 1L;
+    private UserDAO userDAO;
+    
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        userDAO = CachingUserDAO.getSharedInstance();
+    }
+    
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        // Pass password requirements to JSP
+        request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
+        request.getRequestDispatcher("/register.jsp").forward(request, response);
+    }
+    
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        
+        request.setCharacterEncoding("UTF-8");
+        response.setContentType("text/html; charset=UTF-8");
+        
+        // Get parameters
+        String username = request.getParameter("username");
+        String password = request.getParameter("password");
+        String confirmPassword = request.getParameter("confirmPassword");
+        String email = request.getParameter("email");
+        String fullName = request.getParameter("fullName");
+        
+        // Validate input
+        if (username == null || username.trim().isEmpty() ||
+            password == null || password.trim().isEmpty() ||
+            email == null || email.trim().isEmpty() ||
+            fullName == null || fullName.trim().isEmpty()) {
+            request.setAttribute("errorMessage", "All fields are required!");
+            request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
+            request.getRequestDispatcher("/register.jsp").forward(request, response);
+            return;
+        }
+        
+        // Check password confirmation
+        if (!password.equals(confirmPassword)) {
+            request.setAttribute("errorMessage", "Passwords do not match!");
+            request.setAttribute("username", username);
+            request.setAttribute("email", email);
+            request.setAttribute("fullName", fullName);
+            request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
+            request.getRequestDispatcher("/register.jsp").forward(request, response);
+            return;
+        }
+        
+        // Check password strength
+        if (!PasswordUtil.isPasswordStrong(password)) {
+            request.setAttribute("errorMessage", PasswordUtil.getPasswordRequirements() + "!");
+            request.setAttribute("username", username);
+            request.setAttribute("email", email);
+            request.setAttribute("fullName", fullName);
+            request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
+            request.getRequestDispatcher("/register.jsp").forward(request, response);
+            return;
+        }
+        
+        // Hash the password on the hashing executor so BCrypt does not block container threads,
+        // then insert on a container thread (a virtual thread in virtual mode)
+        if (request.isAsyncSupported()) {
+            AsyncContext asyncContext = AsyncSupport.start(request);
+            try {
+                PasswordHashExecutor.getInstance().submit(() -> {
+                    HttpServletRequest asyncRequest = (HttpServletRequest) asyncContext.getRequest();
+                    String passwordHash;
+                    try {
+                        passwordHash = PasswordUtil.hashPassword(password);
+                    } catch (Exception e) {
+                        LOG.error("Error during registration", e);
+                        AsyncSupport.finish(asyncContext, registrationError(asyncRequest, username, email, fullName));
+                        return;
+                    }
+                    try {
+                        AsyncSupport.runBlocking(asyncContext, () -> AsyncSupport.finish(asyncContext,
+                            register(asyncRequest, username, passwordHash, email, fullName)));
+                    } catch (RejectedExecutionException e) {
+                        LOG.warn("Too many requests in flight, rejecting registration for: {}", username);
+                        AsyncSupport.reject(asyncContext);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Password hashing queue full, rejecting registration for: {}", username);
+                AsyncSupport.sendOverloaded(response);
+                asyncContext.complete();
+            }
+            return;
+        }
+        
+        String view;
+        try {
+            view = register(request, username, PasswordUtil.hashPassword(password), email, fullName);
+        } catch (Exception e) {
+            LOG.error("Error during registration", e);
+            view = registrationError(request, username, email, fullName);
+        }
+        request.getRequestDispatcher(view).forward(request, response);
+    }
+    
+    /**
+     * Create the user account
+     * @param request Current request
+     * @param username Submitted username
+     * @param passwordHash BCrypt hash of the submitted password
+     * @param email Submitted email
+     * @param fullName Submitted full name
+     * @return JSP to render
+     */
+    private String register(HttpServletRequest request, String username, String passwordHash,
+                            String email, String fullName) {
+        try {
+            // Create new user with the hashed password
+            User newUser = new User();
+            newUser.setUsername(username.trim());
+            newUser.setPassword(passwordHash);
+            newUser.setEmail(email.trim());
+            newUser.setFullName(fullName.trim());
+            
+            // Save user to database; the UNIQUE(username) constraint detects duplicates
+            RegistrationResult result = userDAO.registerUser(newUser);
+            if (result == RegistrationResult.CREATED) {
+                UserStatsService.getInstance().recordUserCreated();
+                ActivityLogger.getInstance().log(newUser.getId(), UserActivity.REGISTER,
+                    "User registered", RequestUtil.getClientIp(request));
+                request.setAttribute("successMessage", "Registration successful! Please login with your credentials.");
+                return "/login.jsp";
+            }
+            
+            request.setAttribute("errorMessage", result == RegistrationResult.DUPLICATE_USERNAME
+                ? "Username already exists!" : "Registration failed! Please try again.");
+            request.setAttribute("username", username);
+            request.setAttribute("email", email);
+            request.setAttribute("fullName", fullName);
+            request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
+            return "/register.jsp";
+            
+        } catch (Exception e) {
+            LOG.error("Error during registration", e);
+            return registrationError(request, username, email, fullName);
+        }
+    }
+    
+    private String registrationError(HttpServletRequest request, String username, String email, String fullName) {
+        request.setAttribute("errorMessage", "An error occurred during registration, please try again later!");
+        request.setAttribute("username", username);
+        request.setAttribute("email", email);
+        request.setAttribute("fullName", fullName);
+        request.setAttribute("passwordRequirements", PasswordUtil.getPasswordRequirements());
+        return "/register.jsp";
+    }
+}
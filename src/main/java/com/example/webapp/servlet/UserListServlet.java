@@ -0,0 +1,204 @@
+package com.example.webapp.servlet;
+
+import com.example.webapp.dao.CachingUserDAO;
+import com.example.webapp.dao.UserCursor;
+import com.example.webapp.dao.UserDAO;
+import com.example.webapp.filter.AuthTokenFilter;
+import com.example.webapp.model.User;
+import com.example.webapp.model.UserSummary;
+import com.example.webapp.security.AuthToken;
+import com.example.webapp.session.SessionPrincipal;
+import com.example.webapp.util.AppConfig;
+import com.example.webapp.util.JsonUtil;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * User Listing Servlet
+ * Admin-only JSON API over the users table
+ *
+ * GET /users?limit=50&amp;after=cursor returns one keyset page plus the cursor
+ * of the next one; GET /users?stream=true walks the whole table. Both write
+ * the JSON incrementally to the response stream.
+ */
+public class UserListServlet extends HttpServlet {
+    
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_PAGE_SIZE = AppConfig.getInt("users.api.page.size", 50);
+    private static final int MAX_PAGE_SIZE = AppConfig.getInt("users.api.max.page.size", 500);
+    private static final int WRITE_BUFFER_SIZE = 8192;
+    
+    private UserDAO userDAO;
+    private Set<String> adminUsernames;
+    
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        userDAO = CachingUserDAO.getSharedInstance();
+        
+        Set<String> admins = new HashSet<>();
+        for (String name : AppConfig.getString("admin.usernames", "").split(",")) {
+            if (!name.trim().isEmpty()) {
+                admins.add(name.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        adminUsernames = Collections.unmodifiableSet(admins);
+    }
+    
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        
+        String username = getCurrentUsername(request);
+        if (username == null) {
+            sendError(response, HttpServletResponse.SC_UNAUTHORIZED, "Login required");
+            return;
+        }
+        if (!adminUsernames.contains(username.toLowerCase(Locale.ROOT))) {
+            sendError(response, HttpServletResponse.SC_FORBIDDEN, "Administrator access required");
+            return;
+        }
+        
+        if ("true".equalsIgnoreCase(request.getParameter("stream"))) {
+            streamUsers(response);
+            return;
+        }
+        
+        int limit = DEFAULT_PAGE_SIZE;
+        String limitParam = request.getParameter("limit");
+        if (limitParam != null) {
+            try {
+                limit = Integer.parseInt(limitParam.trim());
+            } catch (NumberFormatException e) {
+                limit = -1;
+            }
+            if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+                sendError(response, HttpServletResponse.SC_BAD_REQUEST,
+                    "limit must be between 1 and " + MAX_PAGE_SIZE);
+                return;
+            }
+        }
+        
+        UserCursor after = null;
+        String afterParam = request.getParameter("after");
+        if (afterParam != null && !afterParam.isEmpty()) {
+            after = UserCursor.parse(afterParam);
+            if (after == null) {
+                sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid cursor");
+                return;
+            }
+        }
+        
+        // Fetch one extra row to learn whether another page exists
+        List<UserSummary> users = userDAO.findPage(after, limit + 1);
+        boolean hasMore = users.size() > limit;
+        if (hasMore) {
+            users = users.subList(0, limit);
+        }
+        
+        Writer out = openJson(response);
+        out.write("{\"users\":[");
+        for (int i = 0; i < users.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeUser(out, users.get(i));
+        }
+        out.write("],\"next\":");
+        JsonUtil.writeString(out, hasMore ? UserCursor.after(users.get(users.size() - 1)).toString() : null);
+        out.write('}');
+        out.flush();
+    }
+    
+    /**
+     * Write every user as one JSON document in constant memory
+     */
+    private void streamUsers(HttpServletResponse response) throws IOException {
+        Writer out = openJson(response);
+        out.write("{\"users\":[");
+        boolean[] first = { true };
+        long count = userDAO.streamAllUsers(user -> {
+            if (!first[0]) {
+                out.write(',');
+            }
+            first[0] = false;
+            writeUser(out, user);
+        });
+        out.write("],\"complete\":");
+        // The status line is already sent, so a failed walk is reported in the body
+        out.write(count >= 0 ? "true" : "false");
+        out.write('}');
+        out.flush();
+    }
+    
+    /**
+     * Prepare a buffered UTF-8 writer over the response output stream
+     */
+    private Writer openJson(HttpServletResponse response) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+        return new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8),
+            WRITE_BUFFER_SIZE);
+    }
+    
+    /**
+     * Write the public fields of a user
+     */
+    private void writeUser(Writer out, UserSummary user) throws IOException {
+        out.write("{\"id\":");
+        out.write(Integer.toString(user.getId()));
+        out.write(",\"username\":");
+        JsonUtil.writeString(out, user.getUsername());
+        out.write(",\"email\":");
+        JsonUtil.writeString(out, user.getEmail());
+        out.write(",\"fullName\":");
+        JsonUtil.writeString(out, user.getFullName());
+        out.write(",\"createdAt\":");
+        JsonUtil.writeString(out, user.getCreatedAt() != null ? user.getCreatedAt().toString() : null);
+        out.write('}');
+    }
+    
+    /**
+     * Resolve the logged in username from the session or the signed token
+     * @return Username, null if not logged in
+     */
+    private String getCurrentUsername(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            Object principal = session.getAttribute("user");
+            if (principal instanceof SessionPrincipal) {
+                return ((SessionPrincipal) principal).getUsername();
+            }
+        }
+        AuthToken token = AuthTokenFilter.getToken(request);
+        if (token != null) {
+            User user = userDAO.findById(token.getUserId());
+            return user != null ? user.getUsername() : null;
+        }
+        return null;
+    }
+    
+    private void sendError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        Writer out = openJson(response);
+        out.write("{\"error\":");
+        JsonUtil.writeString(out, message);
+        out.write('}');
+        out.flush();
+    }
+}
@@ -1,93 +1,166 @@
-package com.example.webapp.servlet;
-
-import com.example.webapp.dao.UserDAO;
-import com.example.webapp.model.User;
-
-import javax.servlet.ServletException;
-import javax.servlet.annotation.WebServlet;
-import javax.servlet.http.HttpServlet;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
-import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
-
-/**
- * Welcome Page Servlet
- * Displays welcome information and personalized data after user login
- */
-// @WebServlet("/welcome")
-public class WelcomeServlet extends HttpServlet {
-    
-    private static final long serialVersionUID = 1L;
-    private UserDAO userDAO;
-    
-    @Override
-    public void init() throws ServletException {
-        super.init();
-        userDAO = new UserDAO();
-    }
-    
-    @Override
-    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
-            throws ServletException, IOException {
-        
-        // Check if user is logged in
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute("user") == null) {
-            response.sendRedirect("login");
-            return;
-        }
-        
-        try {
-            // Get current logged in user
-            User currentUser = (User) session.getAttribute("user");
-            
-            // Get latest user information from database
-            User userFromDB = userDAO.findById(currentUser.getId());
-            if (userFromDB != null) {
-                // Update user information in session
-                session.setAttribute("user", userFromDB);
-                currentUser = userFromDB;
-            }
-            
-            // Get user statistics
-            List<User> allUsers = userDAO.getAllUsers();
-            int totalUsers = allUsers.size();
-            
-            // Calculate days since registration
-            long daysSinceRegistration = 0;
-            if (currentUser.getCreatedAt() != null) {
-                daysSinceRegistration = java.time.temporal.ChronoUnit.DAYS.between(
-                    currentUser.getCreatedAt().toLocalDate(), 
-                    LocalDateTime.now().toLocalDate()
-                );
-            }
-            
-            // Set request attributes
-            request.setAttribute("user", currentUser);
-            request.setAttribute("totalUsers", totalUsers);
-            request.setAttribute("daysSinceRegistration", daysSinceRegistration);
-            request.setAttribute("loginTime", session.getAttribute("loginTime"));
-            request.setAttribute("currentTime", LocalDateTime.now().format(
-                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-            
-            // Forward to welcome page
-            request.getRequestDispatcher("/welcome.jsp").forward(request, response);
-            
-        } catch (Exception e) {
-            System.err.println("Error occurred while loading welcome page: " + e.getMessage());
-            request.setAttribute("errorMessage", "An error occurred while loading user information, please try again later!");
-            request.getRequestDispatcher("/error.jsp").forward(request, response);
-        }
-    }
-    
-    @Override
-    protected void doPost(HttpServletRequest request, HttpServletResponse response) 
-            throws ServletException, IOException {
-        // Redirect to GET method
-        doGet(request, response);
-    }
-}
+package com.example.webapp.servlet;
+
+import com.example.webapp.dao.CachingUserDAO;
+import com.example.webapp.dao.UserDAO;
+import com.example.webapp.filter.AuthTokenFilter;
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.model.User;
+import com.example.webapp.model.UserActivity;
+import com.example.webapp.model.UserSummary;
+import com.example.webapp.security.AuthToken;
+import com.example.webapp.security.AuthTokenService;
+import com.example.webapp.service.ActivityLogger;
+import com.example.webapp.service.UserStatsService;
+import com.example.webapp.session.SessionPrincipal;
+import com.example.webapp.util.AppConfig;
+import com.example.webapp.util.RequestExecutor;
+import com.example.webapp.util.RequestUtil;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Welcome Page Servlet
+ * Displays welcome information and personalized data after user login
+ */
+// @WebServlet("/welcome")
+public class WelcomeServlet extends HttpServlet {
+    
+    private static final Logger LOG = LogManager.getLogger(WelcomeServlet.class);
+    
+    private static final long serialVersionUID = 1L;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final long REFRESH_INTERVAL_MS = AppConfig.getLong("session.user.refresh.interval.ms", 60000);
+    private UserDAO userDAO;
+    
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        userDAO = CachingUserDAO.getSharedInstance();
+    }
+    
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        
+        // Check if user is logged in, either through the session or a signed token
+        HttpSession session = request.getSession(false);
+        AuthToken token = AuthTokenFilter.getToken(request);
+        boolean sessionLogin = session != null && session.getAttribute("user") != null;
+        if (!sessionLogin && token == null) {
+            response.sendRedirect("login");
+            return;
+        }
+        
+        // In virtual mode the database lookups run on a virtual thread instead of the container thread
+        HttpSession loginSession = sessionLogin ? session : null;
+        RequestExecutor executor = RequestExecutor.getInstance();
+        if (executor.isVirtual() && request.isAsyncSupported()) {
+            AsyncContext asyncContext = AsyncSupport.start(request);
+            try {
+                executor.execute(() -> AsyncSupport.finish(asyncContext,
+                    render((HttpServletRequest) asyncContext.getRequest(),
+                        (HttpServletResponse) asyncContext.getResponse(), loginSession, token)));
+            } catch (RejectedExecutionException e) {
+                AsyncSupport.sendOverloaded(response);
+                asyncContext.complete();
+            }
+            return;
+        }
+        
+        String view = render(request, response, loginSession, token);
+        if (view != null) {
+            request.getRequestDispatcher(view).forward(request, response);
+        }
+    }
+    
+    /**
+     * Load the user data shown on the welcome page
+     * @param request Current request
+     * @param response Current response
+     * @param session Login session, null in token mode
+     * @param token Signed login token, null in session mode
+     * @return JSP to render, null if the response was redirected
+     */
+    private String render(HttpServletRequest request, HttpServletResponse response,
+                          HttpSession session, AuthToken token) {
+        try {
+            UserSummary currentUser;
+            Date loginTime;
+            
+            if (session != null) {
+                // Get current logged in user
+                SessionPrincipal principal = (SessionPrincipal) session.getAttribute("user");
+                
+                // Refresh from database only if the stored row has changed since the principal was built
+                if (principal.tryStartCheck(REFRESH_INTERVAL_MS)) {
+                    User newer = userDAO.findByIdIfNewer(principal.getUserId(), principal.getVersion());
+                    if (newer != null) {
+                        principal = principal.withUser(newer);
+                        session.setAttribute("user", principal);
+                    }
+                }
+                currentUser = principal.toSummary();
+                loginTime = new Date(principal.getLoginTime());
+            } else {
+                // Stateless mode: the token only carries the user ID
+                User user = userDAO.findById(token.getUserId());
+                if (user == null) {
+                    response.addCookie(AuthTokenService.getInstance().createClearingCookie(request));
+                    response.sendRedirect("login");
+                    return null;
+                }
+                currentUser = new UserSummary(user);
+                loginTime = new Date(token.getIssuedAt() * 1000);
+            }
+            
+            // Get user statistics
+            int totalUsers = UserStatsService.getInstance().getTotalUsers();
+            
+            // Calculate days since registration
+            long daysSinceRegistration = 0;
+            if (currentUser.getCreatedAt() != null) {
+                daysSinceRegistration = java.time.temporal.ChronoUnit.DAYS.between(
+                    currentUser.getCreatedAt().toLocalDate(), 
+                    LocalDateTime.now().toLocalDate()
+                );
+            }
+            
+            ActivityLogger.getInstance().log(currentUser.getId(), UserActivity.VIEW_WELCOME,
+                "Viewed welcome page", RequestUtil.getClientIp(request));
+            
+            // Set request attributes
+            request.setAttribute("user", currentUser);
+            request.setAttribute("totalUsers", totalUsers);
+            request.setAttribute("daysSinceRegistration", daysSinceRegistration);
+            request.setAttribute("loginTime", loginTime);
+            request.setAttribute("currentTime", LocalDateTime.now().format(TIME_FORMATTER));
+            
+            // Forward to welcome page
+            return "/welcome.jsp";
+            
+        } catch (Exception e) {
+            LOG.error("Error occurred while loading welcome page: {}", e.getMessage());
+            request.setAttribute("errorMessage", "An error occurred while loading user information, please try again later!");
+            return "/error.jsp";
+        }
+    }
+    
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        // Redirect to GET method
+        doGet(request, response);
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.webapp.session;
+
+import com.example.webapp.dao.CachingUserDAO;
+import com.example.webapp.dao.UserDAO;
+import com.example.webapp.dao.UserSessionDAO;
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.model.User;
+import com.example.webapp.model.UserSession;
+import com.example.webapp.util.AppConfig;
+import com.example.webapp.util.LruCache;
+import com.example.webapp.util.RequestUtil;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistent Session Store
+ * Mirrors logged-in sessions into the user_sessions table so that users stay
+ * logged in across a Tomcat restart.
+ *
+ * Nothing is written on the request path: logins, access-time updates and
+ * logouts are queued in memory and flushed in batches by a background thread.
+ * last_accessed is written at most once per touch interval per session.
+ * After a restart, the first request carrying an unknown session ID looks the
+ * ID up, and if it belongs to a live persisted session a new container
+ * session is created for the same user.
+ */
+public class PersistentSessionStore {
+    
+    private static final Logger LOG = LogManager.getLogger(PersistentSessionStore.class);
+    
+    private static final PersistentSessionStore INSTANCE = new PersistentSessionStore(
+        AppConfig.getBoolean("session.store.enabled", true),
+        AppConfig.getLong("session.store.touch.interval.ms", 60000),
+        AppConfig.getLong("session.store.flush.interval.ms", 5000),
+        AppConfig.getLong("session.store.max.age.ms", 1800000));
+    
+    // Number of flushes between purges of expired rows
+    private static final int PURGE_EVERY_FLUSHES = 120;
+    
+    private final boolean enabled;
+    private final long touchIntervalMs;
+    private final long maxAgeMs;
+    private final UserSessionDAO sessionDAO = new UserSessionDAO();
+    private final UserDAO userDAO = CachingUserDAO.getSharedInstance();
+    
+    private final ConcurrentHashMap<String, UserSession> pendingSaves = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> pendingTouches = new ConcurrentHashMap<>();
+    private final Set<String> pendingDeletes = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Long> lastPersistedAccess = new ConcurrentHashMap<>();
+    // Session IDs already looked up without success, so stale cookies cost one query
+    private final LruCache<String, Boolean> unknownSessionIds = new LruCache<>(10000);
+    
+    private final ScheduledExecutorService flusher;
+    private int flushCount;
+    
+    PersistentSessionStore(boolean enabled, long touchIntervalMs, long flushIntervalMs, long maxAgeMs) {
+        this.enabled = enabled;
+        this.touchIntervalMs = touchIntervalMs;
+        this.maxAgeMs = maxAgeMs;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-store-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Get shared store instance
+     * @return PersistentSessionStore instance
+     */
+    public static PersistentSessionStore getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * @return Whether sessions are persisted
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Queue a newly logged-in session for saving
+     * @param request Current request
+     * @param session Logged-in session
+     * @param userId User ID
+     */
+    public void register(HttpServletRequest request, HttpSession session, int userId) {
+        if (!enabled) {
+            return;
+        }
+        UserSession record = new UserSession(session.getId(), userId,
+            RequestUtil.getClientIp(request), request.getHeader("User-Agent"));
+        pendingDeletes.remove(record.getId());
+        pendingSaves.put(record.getId(), record);
+        lastPersistedAccess.put(record.getId(), System.currentTimeMillis());
+    }
+    
+    /**
+     * Record an access; only queues a write once per touch interval
+     * @param sessionId Session ID
+     */
+    public void touch(String sessionId) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Long last = lastPersistedAccess.get(sessionId);
+        if (last != null && now - last < touchIntervalMs) {
+            return;
+        }
+        lastPersistedAccess.put(sessionId, now);
+        pendingTouches.put(sessionId, now);
+    }
+    
+    /**
+     * Queue a logged-out session for deletion
+     * @param sessionId Session ID
+     */
+    public void remove(String sessionId) {
+        if (!enabled) {
+            return;
+        }
+        pendingSaves.remove(sessionId);
+        pendingTouches.remove(sessionId);
+        lastPersistedAccess.remove(sessionId);
+        pendingDeletes.add(sessionId);
+    }
+    
+    /**
+     * Restore a login session persisted before a restart
+     * @param request Request whose session ID the container does not know
+     * @return Restored session, null if there was nothing to restore
+     */
+    public HttpSession rehydrate(HttpServletRequest request) {
+        String requestedId = request.getRequestedSessionId();
+        if (!enabled || requestedId == null || unknownSessionIds.get(requestedId) != null) {
+            return null;
+        }
+        
+        long now = System.currentTimeMillis();
+        UserSession record = sessionDAO.findActive(requestedId, now - maxAgeMs);
+        User user = record != null ? userDAO.findById(record.getUserId()) : null;
+        String userAgent = request.getHeader("User-Agent");
+        if (user == null || (record.getUserAgent() != null && !record.getUserAgent().equals(userAgent))) {
+            unknownSessionIds.put(requestedId, Boolean.TRUE, maxAgeMs);
+            return null;
+        }
+        
+        HttpSession session = request.getSession(true);
+        session.setAttribute("user", SessionPrincipal.of(user, record.getCreatedAt() != null
+            ? Timestamp.valueOf(record.getCreatedAt()).getTime() : now));
+        
+        if (!sessionDAO.rekey(requestedId, session.getId(), now)) {
+            // Row vanished meanwhile; save it again under the new ID
+            register(request, session, user.getId());
+        }
+        lastPersistedAccess.put(session.getId(), now);
+        LOG.info("Restored persisted session for user: {}", user.getUsername());
+        return session;
+    }
+    
+    /**
+     * Stop the flusher after writing everything still queued
+     */
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (enabled) {
+            flush();
+        }
+    }
+    
+    /**
+     * @return Number of session writes waiting for the next flush
+     */
+    public int getPendingWrites() {
+        return pendingSaves.size() + pendingTouches.size() + pendingDeletes.size();
+    }
+    
+    /**
+     * Write queued changes in batches; only runs on the flusher thread or after it stopped
+     */
+    private void flush() {
+        try {
+            List<UserSession> saves = drain(pendingSaves);
+            if (!saves.isEmpty()) {
+                sessionDAO.saveBatch(saves);
+            }
+            
+            Map<String, Long> touches = new HashMap<>();
+            for (String sessionId : new ArrayList<>(pendingTouches.keySet())) {
+                Long accessedAt = pendingTouches.remove(sessionId);
+                if (accessedAt != null) {
+                    touches.put(sessionId, accessedAt);
+                }
+            }
+            sessionDAO.touchBatch(touches);
+            
+            List<String> deletes = new ArrayList<>(pendingDeletes);
+            pendingDeletes.removeAll(deletes);
+            sessionDAO.deleteBatch(deletes);
+            
+            if (++flushCount % PURGE_EVERY_FLUSHES == 0) {
+                purgeExpired();
+            }
+        } catch (RuntimeException e) {
+            // Keep the scheduled flusher alive
+            LOG.error("Error occurred while flushing sessions: {}", e.getMessage());
+        }
+    }
+    
+    private void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - maxAgeMs;
+        sessionDAO.deleteExpired(cutoff);
+        lastPersistedAccess.values().removeIf(accessedAt -> accessedAt < cutoff);
+    }
+    
+    private static List<UserSession> drain(ConcurrentHashMap<String, UserSession> pending) {
+        List<UserSession> drained = new ArrayList<>();
+        for (String sessionId : new ArrayList<>(pending.keySet())) {
+            UserSession session = pending.remove(sessionId);
+            if (session != null) {
+                drained.add(session);
+            }
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.webapp.session;
+
+import com.example.webapp.model.User;
+import com.example.webapp.model.UserSummary;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Session Principal
+ * The only per-user state kept in the HttpSession: who is logged in, when,
+ * and which users.updated_at version the cached profile fields were read at.
+ * Pages render from it and only ask the database whether a newer version
+ * exists once per check interval.
+ *
+ * Instances are immutable and serialize through a hand-written binary codec
+ * (serial proxy pattern), so session replication and passivation write a few
+ * dozen bytes per user instead of a default-serialized object graph. String
+ * fields are bounded by the users table column sizes, which caps the encoded
+ * size at {@link #MAX_ENCODED_BYTES}.
+ */
+public final class SessionPrincipal implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    // Column sizes of users.username, users.email and users.full_name
+    static final int MAX_USERNAME_LENGTH = 50;
+    static final int MAX_EMAIL_LENGTH = 100;
+    static final int MAX_FULL_NAME_LENGTH = 100;
+    
+    // Codec layout: format, flags, user ID, three timestamps, then up to three writeUTF strings
+    private static final int FIXED_ENCODED_BYTES = 1 + 1 + 4 + 8 + 8 + 8;
+    
+    /** Upper bound of the encoded size; writeUTF encodes every UTF-16 char in at most 3 bytes */
+    public static final int MAX_ENCODED_BYTES = FIXED_ENCODED_BYTES
+        + 3 * 2 + 3 * (MAX_USERNAME_LENGTH + MAX_EMAIL_LENGTH + MAX_FULL_NAME_LENGTH);
+    
+    private final int userId;
+    private final String username;
+    private final String email;
+    private final String fullName;
+    // Epoch millis of users.created_at as a UTC wall-clock value, Long.MIN_VALUE if unknown
+    private final long createdAt;
+    // users.updated_at in epoch millis, compared against the database by findByIdIfNewer
+    private final long version;
+    private final long loginTime;
+    // Per-node throttle for version checks; deliberately not part of the serialized state
+    private final transient AtomicLong lastCheckedAt;
+    
+    SessionPrincipal(int userId, String username, String email, String fullName,
+                     long createdAt, long version, long loginTime) {
+        this.userId = userId;
+        this.username = bounded(username, MAX_USERNAME_LENGTH);
+        this.email = bounded(email, MAX_EMAIL_LENGTH);
+        this.fullName = bounded(fullName, MAX_FULL_NAME_LENGTH);
+        this.createdAt = createdAt;
+        this.version = version;
+        this.loginTime = loginTime;
+        this.lastCheckedAt = new AtomicLong(System.currentTimeMillis());
+    }
+    
+    /**
+     * Create the principal of a user who just logged in
+     * @param user User loaded from the database
+     * @param loginTime Login time in epoch milliseconds
+     * @return Session principal; never holds the password hash
+     */
+    public static SessionPrincipal of(User user, long loginTime) {
+        return new SessionPrincipal(user.getId(), user.getUsername(), user.getEmail(), user.getFullName(),
+            user.getCreatedAt() != null ? user.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MIN_VALUE,
+            user.getUpdatedAt() != null ? Timestamp.valueOf(user.getUpdatedAt()).getTime() : 0L,
+            loginTime);
+    }
+    
+    /**
+     * Create a principal with refreshed profile fields and the same login time
+     * @param user Newer version of the user
+     * @return New session principal
+     */
+    public SessionPrincipal withUser(User user) {
+        return of(user, loginTime);
+    }
+    
+    /**
+     * @return Logged in user ID
+     */
+    public int getUserId() {
+        return userId;
+    }
+    
+    /**
+     * @return Logged in username
+     */
+    public String getUsername() {
+        return username;
+    }
+    
+    /**
+     * @return users.updated_at of the cached profile fields in epoch milliseconds
+     */
+    public long getVersion() {
+        return version;
+    }
+    
+    /**
+     * @return Login time in epoch milliseconds
+     */
+    public long getLoginTime() {
+        return loginTime;
+    }
+    
+    /**
+     * Build the summary used by pages
+     * @return User summary of the principal
+     */
+    public UserSummary toSummary() {
+        LocalDateTime created = createdAt != Long.MIN_VALUE
+            ? LocalDateTime.ofEpochSecond(Math.floorDiv(createdAt, 1000L),
+                (int) Math.floorMod(createdAt, 1000L) * 1_000_000, ZoneOffset.UTC)
+            : null;
+        LocalDateTime updated = version != 0L ? new Timestamp(version).toLocalDateTime() : null;
+        return new UserSummary(userId, username, email, fullName, created, updated);
+    }
+    
+    /**
+     * Claim the next version check for this session.
+     * Returns true for at most one caller per interval, so concurrent requests
+     * of the same session do not each hit the database.
+     * @param intervalMillis Minimum time between checks
+     * @return true if the caller should check for a newer version
+     */
+    public boolean tryStartCheck(long intervalMillis) {
+        long now = System.currentTimeMillis();
+        long last = lastCheckedAt.get();
+        return now - last >= intervalMillis && lastCheckedAt.compareAndSet(last, now);
+    }
+    
+    private Object writeReplace() throws ObjectStreamException {
+        return new SerialForm(this);
+    }
+    
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("SessionPrincipal is only deserialized through its serial form");
+    }
+    
+    private static String bounded(String value, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            throw new IllegalArgumentException("Session principal field exceeds " + maxLength + " characters");
+        }
+        return value;
+    }
+    
+    /**
+     * Serial proxy holding the binary codec
+     * Public no-arg constructor and mutable state are required by Externalizable,
+     * which is why they live here and not on the principal itself.
+     */
+    static final class SerialForm implements Externalizable {
+        
+        private static final long serialVersionUID = 1L;
+        private static final byte FORMAT_V1 = 1;
+        private static final int HAS_EMAIL = 1;
+        private static final int HAS_FULL_NAME = 1 << 1;
+        private static final int HAS_USERNAME = 1 << 2;
+        
+        private SessionPrincipal principal;
+        
+        public SerialForm() {
+        }
+        
+        SerialForm(SessionPrincipal principal) {
+            this.principal = principal;
+        }
+        
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            SessionPrincipal p = principal;
+            int flags = (p.email != null ? HAS_EMAIL : 0)
+                | (p.fullName != null ? HAS_FULL_NAME : 0)
+                | (p.username != null ? HAS_USERNAME : 0);
+            out.writeByte(FORMAT_V1);
+            out.writeByte(flags);
+            out.writeInt(p.userId);
+            out.writeLong(p.createdAt);
+            out.writeLong(p.version);
+            out.writeLong(p.loginTime);
+            if (p.username != null) {
+                out.writeUTF(p.username);
+            }
+            if (p.email != null) {
+                out.writeUTF(p.email);
+            }
+            if (p.fullName != null) {
+                out.writeUTF(p.fullName);
+            }
+        }
+        
+        @Override
+        public void readExternal(ObjectInput in) throws IOException {
+            byte format = in.readByte();
+            if (format != FORMAT_V1) {
+                throw new InvalidObjectException("Unsupported session principal format: " + format);
+            }
+            int flags = in.readByte();
+            int userId = in.readInt();
+            long createdAt = in.readLong();
+            long version = in.readLong();
+            long loginTime = in.readLong();
+            String username = (flags & HAS_USERNAME) != 0 ? in.readUTF() : null;
+            String email = (flags & HAS_EMAIL) != 0 ? in.readUTF() : null;
+            String fullName = (flags & HAS_FULL_NAME) != 0 ? in.readUTF() : null;
+            try {
+                principal = new SessionPrincipal(userId, username, email, fullName, createdAt, version, loginTime);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidObjectException(e.getMessage());
+            }
+        }
+        
+        private Object readResolve() throws ObjectStreamException {
+            return principal;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.webapp.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Application Configuration Utility Class
+ * Loads application.properties once; system properties with the same key take precedence
+ */
+public class AppConfig {
+    
+    private static final String CONFIG_FILE = "application.properties";
+    private static final Properties PROPERTIES = new Properties();
+    
+    static {
+        try (InputStream input = AppConfig.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+            if (input != null) {
+                PROPERTIES.load(input);
+            } else {
+                System.err.println("Application configuration file not found: " + CONFIG_FILE);
+            }
+        } catch (IOException e) {
+            System.err.println("Application configuration loading failed: " + e.getMessage());
+        }
+    }
+    
+    private AppConfig() {
+    }
+    
+    /**
+     * Get string configuration value
+     * @param key Property key
+     * @param defaultValue Value returned when the key is not set
+     * @return Configured value or default
+     */
+    public static String getString(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = PROPERTIES.getProperty(key);
+        }
+        return value != null ? value.trim() : defaultValue;
+    }
+    
+    /**
+     * Get integer configuration value
+     * @param key Property key
+     * @param defaultValue Value returned when the key is not set or invalid
+     * @return Configured value or default
+     */
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid integer for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Get long configuration value
+     * @param key Property key
+     * @param defaultValue Value returned when the key is not set or invalid
+     * @return Configured value or default
+     */
+    public static long getLong(String key, long defaultValue) {
+        String value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid number for " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Get all configuration values whose key starts with a prefix
+     * @param prefix Key prefix, e.g. logging.level.
+     * @return Values keyed by the remainder of the key; system properties take precedence
+     */
+    public static Map<String, String> getByPrefix(String prefix) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : PROPERTIES.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                values.put(key.substring(prefix.length()), PROPERTIES.getProperty(key).trim());
+            }
+        }
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                values.put(key.substring(prefix.length()), System.getProperty(key).trim());
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * Get boolean configuration value
+     * @param key Property key
+     * @param defaultValue Value returned when the key is not set
+     * @return Configured value or default
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+}
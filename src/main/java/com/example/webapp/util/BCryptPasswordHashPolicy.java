@@ -0,0 +1,102 @@
+package com.example.webapp.util;
+
+import org.mindrot.jbcrypt.BCrypt;
+
+/**
+ * BCrypt Password Hash Policy
+ * Hashes with a fixed BCrypt cost and flags stored hashes below that cost.
+ * Higher-cost hashes are kept, so nodes configured with different costs never
+ * rehash the same user back and forth or downgrade a hash.
+ */
+public class BCryptPasswordHashPolicy implements PasswordHashPolicy {
+    
+    public static final int MIN_COST = 4;
+    public static final int MAX_COST = 31;
+    
+    private static final String CALIBRATION_PASSWORD = "Calibration1Password";
+    
+    private final int cost;
+    
+    /**
+     * Create policy
+     * @param cost BCrypt cost (log2 of the number of rounds)
+     */
+    public BCryptPasswordHashPolicy(int cost) {
+        if (cost < MIN_COST || cost > MAX_COST) {
+            throw new IllegalArgumentException("BCrypt cost must be between " + MIN_COST + " and " + MAX_COST);
+        }
+        this.cost = cost;
+    }
+    
+    /**
+     * Pick the highest cost whose hash time stays within the target on this machine.
+     * Each cost step doubles the work, so the search stops at the first cost that
+     * is too slow.
+     * @param targetMillis Target time for one hash or verify
+     * @param minCost Lowest acceptable cost, returned even if it exceeds the target
+     * @param maxCost Highest cost to try
+     * @return Policy using the calibrated cost
+     */
+    public static BCryptPasswordHashPolicy calibrate(long targetMillis, int minCost, int maxCost) {
+        // Warm up the JIT so the measurements reflect steady-state speed
+        BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(MIN_COST));
+        BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(MIN_COST));
+        
+        int chosen = minCost;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(cost));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            chosen = cost;
+        }
+        return new BCryptPasswordHashPolicy(chosen);
+    }
+    
+    /**
+     * @return BCrypt cost used for new hashes
+     */
+    public int getCost() {
+        return cost;
+    }
+    
+    @Override
+    public String hash(String plainPassword) {
+        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(cost));
+    }
+    
+    @Override
+    public boolean verify(String plainPassword, String hashedPassword) {
+        return BCrypt.checkpw(plainPassword, hashedPassword);
+    }
+    
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        return parseCost(hashedPassword) < cost;
+    }
+    
+    /**
+     * Read the cost from a hash in the $2a$NN$... format
+     * @param hashedPassword Stored hash
+     * @return Cost, -1 if the hash is not a BCrypt hash
+     */
+    static int parseCost(String hashedPassword) {
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int costStart = hashedPassword.indexOf('$', 1) + 1;
+        if (costStart <= 1 || costStart + 2 >= hashedPassword.length()
+                || hashedPassword.charAt(costStart + 2) != '$') {
+            return -1;
+        }
+        char tens = hashedPassword.charAt(costStart);
+        char units = hashedPassword.charAt(costStart + 1);
+        if (tens < '0' || tens > '9' || units < '0' || units > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
+}
@@ -0,0 +1,648 @@
+package com.example.webapp.util;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC Connection Pool
+ * Keeps a bounded set of physical connections open and hands out proxies
+ * whose close() returns the connection to the pool instead of closing it.
+ *
+ * Borrow and return are lock-free in the common case: a semaphore bounds the
+ * number of borrowed connections and idle connections live in a concurrent
+ * LIFO deque, so the most recently used (warmest) connection is reused first.
+ *
+ * Each physical connection also keeps a small LRU cache of prepared statements
+ * keyed by SQL text. Closing a cached statement only clears its parameters, so
+ * repeat prepares of the same SQL skip the driver (and, with server-side
+ * prepares, the server) parse entirely.
+ */
+public class ConnectionPool {
+    
+    private static final Logger LOG = LogManager.getLogger(ConnectionPool.class);
+    
+    // Idle connections used within this window are handed out without a validation round trip
+    private static final long VALIDATION_BYPASS_MS = 500;
+
+    private final String url;
+    private final Properties driverProperties;
+    private final int maxSize;
+    private final long connectionTimeoutMs;
+    private final long idleTimeoutMs;
+    private final long maxLifetimeMs;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+
+    private final ConcurrentLinkedDeque<PooledConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final AtomicLong statementCacheEvictions = new AtomicLong();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    /**
+     * Create a connection pool
+     * @param url JDBC URL
+     * @param username Database username
+     * @param password Database password
+     * @param maxSize Maximum number of physical connections
+     * @param connectionTimeoutMs Maximum time to wait for a free connection
+     * @param idleTimeoutMs Idle connections older than this are closed
+     * @param maxLifetimeMs Connections older than this are retired
+     * @param validationTimeoutMs Timeout for the validation check on borrow
+     * @param statementCacheSize Prepared statements cached per connection, 0 to disable
+     */
+    public ConnectionPool(String url, String username, String password, int maxSize,
+                          long connectionTimeoutMs, long idleTimeoutMs, long maxLifetimeMs,
+                          long validationTimeoutMs, int statementCacheSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive");
+        }
+        this.url = url;
+        this.driverProperties = new Properties();
+        this.driverProperties.setProperty("user", username);
+        this.driverProperties.setProperty("password", password);
+        this.maxSize = maxSize;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxLifetimeMs = maxLifetimeMs;
+        this.validationTimeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(validationTimeoutMs));
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        this.permits = new Semaphore(maxSize);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, Math.min(idleTimeoutMs, maxLifetimeMs) / 2);
+        housekeeper.scheduleWithFixedDelay(this::evictIdleConnections, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrow a connection from the pool
+     * @return Connection proxy; closing it returns the connection to the pool
+     * @throws SQLException If no connection becomes available within the timeout
+     */
+    public Connection getConnection() throws SQLException {
+        return getConnection(connectionTimeoutMs);
+    }
+
+    /**
+     * Borrow a connection from the pool, waiting at most the given time for a free one
+     * @param timeoutMs Maximum time to wait for a free connection
+     * @return Connection proxy; closing it returns the connection to the pool
+     * @throws SQLException If no connection becomes available within the timeout
+     */
+    public Connection getConnection(long timeoutMs) throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+        acquirePermit(timeoutMs);
+
+        try {
+            long now = System.currentTimeMillis();
+            PooledConnection pooled;
+            while ((pooled = idleConnections.pollFirst()) != null) {
+                if (isUsable(pooled, now)) {
+                    return pooled.borrow();
+                }
+                destroy(pooled);
+            }
+            return createConnection().borrow();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Close all idle connections and reject further borrows.
+     * Borrowed connections are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            destroy(pooled);
+        }
+    }
+
+    /**
+     * @return JDBC URL of the pooled database
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @return Maximum number of physical connections
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return Number of open physical connections
+     */
+    public int getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    /**
+     * @return Number of connections currently borrowed
+     */
+    public int getActiveConnections() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /**
+     * @return Number of connections waiting in the pool
+     */
+    public int getIdleConnections() {
+        return idleConnections.size();
+    }
+
+    /**
+     * @return Approximate number of threads waiting for a connection
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * @return Prepared statements cached per connection, 0 if caching is disabled
+     */
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * @return Number of prepares served from a connection's statement cache
+     */
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+
+    /**
+     * @return Number of cacheable prepares that had to go to the driver
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+
+    /**
+     * @return Number of cached statements closed to make room for others
+     */
+    public long getStatementCacheEvictions() {
+        return statementCacheEvictions.get();
+    }
+
+    /**
+     * @return Fraction of cacheable prepares served from the cache, 0 if none yet
+     */
+    public double getStatementCacheHitRate() {
+        long hits = statementCacheHits.get();
+        long total = hits + statementCacheMisses.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private void acquirePermit(long timeoutMs) throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                    "Timed out after " + timeoutMs + "ms waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private PooledConnection createConnection() throws SQLException {
+        LOG.info("Opening new pooled database connection: {}", url);
+        Connection physical = DriverManager.getConnection(url, driverProperties);
+        totalConnections.incrementAndGet();
+        return new PooledConnection(physical);
+    }
+
+    private boolean isUsable(PooledConnection pooled, long now) {
+        if (now - pooled.createdAt >= maxLifetimeMs) {
+            return false;
+        }
+        if (now - pooled.lastUsedAt < VALIDATION_BYPASS_MS) {
+            return true;
+        }
+        try {
+            return pooled.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Return a borrowed connection to the pool
+     * @param pooled Connection being returned
+     */
+    private void release(PooledConnection pooled) {
+        try {
+            long now = System.currentTimeMillis();
+            if (closed || now - pooled.createdAt >= maxLifetimeMs || !reset(pooled)) {
+                destroy(pooled);
+            } else {
+                pooled.lastUsedAt = now;
+                idleConnections.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Undo per-borrow state so the next borrower gets a clean connection
+     * @return false if the connection is no longer usable
+     */
+    private boolean reset(PooledConnection pooled) {
+        try {
+            Connection physical = pooled.physical;
+            if (physical.isClosed()) {
+                return false;
+            }
+            pooled.reclaimStatements();
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (physical.isReadOnly()) {
+                physical.setReadOnly(false);
+            }
+            physical.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void destroy(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            LOG.error("Error occurred while closing pooled connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Close idle connections that exceeded the idle timeout or the maximum lifetime
+     */
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext()) {
+            PooledConnection pooled = iterator.next();
+            boolean expired = now - pooled.lastUsedAt >= idleTimeoutMs
+                || now - pooled.createdAt >= maxLifetimeMs;
+            // Only the thread that wins the removal may close the connection
+            if (expired && idleConnections.removeFirstOccurrence(pooled)) {
+                destroy(pooled);
+            }
+        }
+    }
+
+    /**
+     * Physical connection tracked by the pool
+     */
+    private final class PooledConnection {
+        private final Connection physical;
+        private final long createdAt;
+        private volatile long lastUsedAt;
+        // Only touched by the borrowing thread; handoff through the pool deque publishes it
+        private final Map<StatementKey, CachedStatement> statements;
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.createdAt = System.currentTimeMillis();
+            this.lastUsedAt = createdAt;
+            this.statements = statementCacheSize > 0 ? new StatementCache() : null;
+        }
+
+        /**
+         * Prepare a statement through the per-connection cache
+         * @param sql SQL text
+         * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS or NO_GENERATED_KEYS
+         * @param owner Handler of the current borrow
+         * @param connectionProxy Connection proxy handed to the borrower
+         * @return Statement proxy whose close() returns the statement to the cache
+         */
+        PreparedStatement prepare(String sql, int autoGeneratedKeys, ConnectionHandler owner,
+                                  Connection connectionProxy) throws SQLException {
+            StatementKey key = new StatementKey(sql, autoGeneratedKeys);
+            CachedStatement cached = statements.get(key);
+            if (cached != null && !cached.leased) {
+                statementCacheHits.incrementAndGet();
+            } else {
+                statementCacheMisses.incrementAndGet();
+                PreparedStatement physicalStatement = physical.prepareStatement(sql, autoGeneratedKeys);
+                if (cached != null) {
+                    // Same SQL already open on this connection (nested use); do not cache the second one
+                    CachedStatement uncached = new CachedStatement(key, physicalStatement);
+                    uncached.evicted = true;
+                    cached = uncached;
+                } else {
+                    cached = new CachedStatement(key, physicalStatement);
+                    statements.put(key, cached);
+                }
+            }
+            cached.leased = true;
+            return (PreparedStatement) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                new StatementHandler(cached, owner, connectionProxy));
+        }
+
+        /**
+         * Return statements the borrower did not close so the next borrower can reuse them
+         */
+        void reclaimStatements() {
+            if (statements == null) {
+                return;
+            }
+            Iterator<CachedStatement> iterator = statements.values().iterator();
+            while (iterator.hasNext()) {
+                CachedStatement cached = iterator.next();
+                if (cached.leased && (cached.evicted || !cached.recycle())) {
+                    iterator.remove();
+                    cached.closePhysical();
+                }
+            }
+        }
+
+        /**
+         * Give a closed statement proxy's physical statement back to the cache
+         */
+        void returnStatement(CachedStatement cached) {
+            if (cached.evicted || !cached.recycle()) {
+                statements.remove(cached.key, cached);
+                cached.closePhysical();
+            }
+        }
+
+        Connection borrow() {
+            return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new ConnectionHandler(this));
+        }
+    }
+
+    /**
+     * Access-ordered map that closes the least recently used idle statement
+     * once the per-connection limit is exceeded
+     */
+    private final class StatementCache extends LinkedHashMap<StatementKey, CachedStatement> {
+        private static final long serialVersionUID = 1L;
+
+        StatementCache() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedStatement> eldest) {
+            if (size() <= statementCacheSize) {
+                return false;
+            }
+            CachedStatement cached = eldest.getValue();
+            statementCacheEvictions.incrementAndGet();
+            if (cached.leased) {
+                // Still in use; closed when the borrower closes it
+                cached.evicted = true;
+            } else {
+                cached.closePhysical();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Cache key: SQL text plus the generated-keys mode it was prepared with
+     */
+    private static final class StatementKey {
+        private final String sql;
+        private final int autoGeneratedKeys;
+
+        StatementKey(String sql, int autoGeneratedKeys) {
+            this.sql = sql;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey key = (StatementKey) other;
+            return autoGeneratedKeys == key.autoGeneratedKeys && sql.equals(key.sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sql.hashCode() + autoGeneratedKeys;
+        }
+    }
+
+    /**
+     * Physical prepared statement owned by a connection's statement cache
+     */
+    private static final class CachedStatement {
+        private final StatementKey key;
+        private final PreparedStatement physical;
+        private boolean leased;
+        // Set when the entry left the cache, or the borrower changed settings that would leak
+        private boolean evicted;
+
+        CachedStatement(StatementKey key, PreparedStatement physical) {
+            this.key = key;
+            this.physical = physical;
+        }
+
+        /**
+         * Clear per-use state so the statement can be handed out again
+         * @return false if the statement is no longer usable
+         */
+        boolean recycle() {
+            leased = false;
+            try {
+                physical.clearParameters();
+                physical.clearBatch();
+                physical.clearWarnings();
+                return !physical.isClosed();
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        void closePhysical() {
+            leased = false;
+            try {
+                physical.close();
+            } catch (SQLException e) {
+                LOG.error("Error occurred while closing cached statement: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Intercepts close() on a cached statement so it goes back to the connection's cache.
+     * Like connections, a fresh handler is used per prepare so a stale reference is inert.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+        private final CachedStatement cached;
+        private final ConnectionHandler owner;
+        private final Connection connectionProxy;
+        private boolean closed;
+
+        StatementHandler(CachedStatement cached, ConnectionHandler owner, Connection connectionProxy) {
+            this.cached = cached;
+            this.owner = owner;
+            this.connectionProxy = connectionProxy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        // After the connection went back to the pool the statement was already reclaimed
+                        if (!owner.returned.get()) {
+                            owner.pooled.returnStatement(cached);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || owner.returned.get() || cached.physical.isClosed();
+                case "getConnection":
+                    return connectionProxy;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + cached.physical + "]";
+                case "setFetchSize":
+                case "setMaxRows":
+                case "setLargeMaxRows":
+                case "setQueryTimeout":
+                case "setFetchDirection":
+                case "setMaxFieldSize":
+                case "setEscapeProcessing":
+                case "setPoolable":
+                case "setCursorName":
+                case "closeOnCompletion":
+                    // Settings would carry over to the next user, so do not cache this statement again
+                    cached.evicted = true;
+                    break;
+                default:
+                    break;
+            }
+            if (closed || owner.returned.get()) {
+                throw new SQLException("Statement has already been closed");
+            }
+            try {
+                return method.invoke(cached.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Intercepts close() so the physical connection goes back to the pool.
+     * A fresh handler is used per borrow, so a stale reference cannot touch
+     * a connection that has since been handed to another thread.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        ConnectionHandler(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    if (returned.compareAndSet(false, true)) {
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned.get() || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + "]";
+                default:
+                    break;
+            }
+            if (returned.get()) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if ("prepareStatement".equals(name) && pooled.statements != null && isCacheable(method)) {
+                int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+                return pooled.prepare((String) args[0], autoGeneratedKeys, this, (Connection) proxy);
+            }
+            try {
+                return method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        /**
+         * Only prepareStatement(String) and prepareStatement(String, int autoGeneratedKeys) are cached;
+         * cursor type, holdability and key-column variants go straight to the driver
+         */
+        private boolean isCacheable(Method method) {
+            Class<?>[] types = method.getParameterTypes();
+            return types.length == 1 || (types.length == 2 && types[1] == int.class);
+        }
+    }
+}
@@ -1,23 +1,45 @@
 package com.example.webapp.util;
 
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.metrics.LatencyHistogram;
+import com.example.webapp.metrics.MetricsRegistry;
+
 import java.io.InputStream;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * Database Connection Utility Class
  * Provides MySQL database connection management
  * Supports both local and AWS RDS configurations
+ * Read-only work can be routed to read replicas through getReadConnection
  */
 public class DatabaseUtil {
     
+    private static final Logger LOG = LogManager.getLogger(DatabaseUtil.class);
+    
     // Database connection configuration - loaded from properties file
     private static String DB_URL;
     private static String DB_USERNAME;
     private static String DB_PASSWORD;
     private static String DB_DRIVER;
+    private static String VALIDATION_QUERY;
+    
+    // Connection pool - null when pooling is disabled
+    private static ConnectionPool connectionPool;
+    
+    // Read replica router - null when no replicas are configured
+    private static ReplicaRouter replicaRouter;
+    
+    // Time spent waiting for a pooled connection
+    private static final LatencyHistogram WRITER_ACQUIRE_TIMER = acquireTimer("writer");
+    private static final LatencyHistogram READ_ACQUIRE_TIMER = acquireTimer("read");
     
     // Static block to load database configuration and driver
     static {
@@ -26,7 +48,7 @@ public class DatabaseUtil {
             Properties props = new Properties();
             String configFile = getConfigFileName();
             
-            System.out.println("Loading database configuration from: " + configFile);
+            LOG.info("Loading database configuration from: {}", configFile);
             
             InputStream input = DatabaseUtil.class.getClassLoader()
                 .getResourceAsStream(configFile);
@@ -43,6 +65,7 @@ public class DatabaseUtil {
             DB_USERNAME = props.getProperty("db.username");
             DB_PASSWORD = props.getProperty("db.password");
             DB_DRIVER = props.getProperty("db.driver");
+            VALIDATION_QUERY = props.getProperty("db.validation.query", "SELECT 1");
             
             // Validate required properties
             if (DB_URL == null || DB_USERNAME == null || DB_PASSWORD == null || DB_DRIVER == null) {
@@ -51,15 +74,50 @@ public class DatabaseUtil {
             
             // Load database driver
             Class.forName(DB_DRIVER);
-            System.out.println("Database configuration loaded successfully");
+            
+            // Set up connection pool
+            if (Boolean.parseBoolean(props.getProperty("db.pool.enabled", "true"))) {
+                connectionPool = createPool(props, DB_URL, DB_USERNAME, DB_PASSWORD);
+                LOG.info("Database connection pool enabled, max connections: {}", connectionPool.getMaxSize());
+                
+                // Set up read replicas, which share the writer's pool settings
+                List<ConnectionPool> replicaPools = new ArrayList<>();
+                for (String replicaUrl : props.getProperty("db.replica.urls", "").split(",")) {
+                    if (!replicaUrl.trim().isEmpty()) {
+                        replicaPools.add(createPool(props, replicaUrl.trim(),
+                            props.getProperty("db.replica.username", DB_USERNAME),
+                            props.getProperty("db.replica.password", DB_PASSWORD)));
+                    }
+                }
+                if (!replicaPools.isEmpty()) {
+                    replicaRouter = new ReplicaRouter(connectionPool, replicaPools,
+                        Long.parseLong(props.getProperty("db.replica.read.your.writes.ms", "5000")),
+                        Integer.parseInt(props.getProperty("db.replica.max.tracked.writes", "10000")),
+                        Long.parseLong(props.getProperty("db.replica.health.check.interval.ms", "5000")),
+                        Long.parseLong(props.getProperty("db.pool.validation.timeout", "5000")));
+                    LOG.info("Read replica routing enabled, replicas: {}", replicaPools.size());
+                }
+            } else if (!props.getProperty("db.replica.urls", "").trim().isEmpty()) {
+                LOG.warn("db.replica.urls is ignored because connection pooling is disabled");
+            }
+            LOG.info("Database configuration loaded successfully");
             
         } catch (Exception e) {
-            System.err.println("Database configuration loading failed: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Database configuration loading failed", e);
             throw new RuntimeException("Database configuration loading failed", e);
         }
     }
     
+    private static ConnectionPool createPool(Properties props, String url, String username, String password) {
+        return new ConnectionPool(url, username, password,
+            Integer.parseInt(props.getProperty("db.max.connections", "10")),
+            Long.parseLong(props.getProperty("db.connection.timeout", "30000")),
+            Long.parseLong(props.getProperty("db.pool.idle.timeout", "600000")),
+            Long.parseLong(props.getProperty("db.pool.max.lifetime", "1800000")),
+            Long.parseLong(props.getProperty("db.pool.validation.timeout", "5000")),
+            Integer.parseInt(props.getProperty("db.pool.statement.cache.size", "32")));
+    }
+    
     /**
      * Get configuration file name based on environment
      * @return Configuration file name
@@ -73,30 +131,94 @@ public class DatabaseUtil {
         
         if ("aws".equalsIgnoreCase(environment)) {
             return "database-aws.properties";
-        } else {
-            return "database.properties"; // Default to local configuration
         }
+        
+        // Other environments (e.g. the H2 benchmark setup) bring their own database-<env>.properties
+        if (environment != null && !environment.trim().isEmpty()) {
+            String candidate = "database-" + environment.trim().toLowerCase() + ".properties";
+            if (DatabaseUtil.class.getClassLoader().getResource(candidate) != null) {
+                return candidate;
+            }
+        }
+        return "database.properties"; // Default to local configuration
     }
     
     /**
      * Get database connection
+     * Borrows from the connection pool when pooling is enabled; closing the
+     * returned connection gives it back to the pool.
      * @return Connection object
      * @throws SQLException Database connection exception
      */
     public static Connection getConnection() throws SQLException {
+        if (connectionPool != null) {
+            long start = System.nanoTime();
+            try {
+                return connectionPool.getConnection();
+            } catch (SQLException e) {
+                WRITER_ACQUIRE_TIMER.recordError();
+                throw e;
+            } finally {
+                WRITER_ACQUIRE_TIMER.recordSince(start);
+            }
+        }
         try {
-            System.out.println("Attempting to connect to database: " + DB_URL);
-            System.out.println("Database username: " + DB_USERNAME);
+            LOG.debug("Opening unpooled database connection: {} as {}", DB_URL, DB_USERNAME);
             Connection conn = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
-            System.out.println("Database connection successful!");
+            LOG.debug("Database connection successful");
             return conn;
         } catch (SQLException e) {
-            System.err.println("Database connection failed: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Database connection failed", e);
             throw e;
         }
     }
     
+    /**
+     * Get a connection for read-only work that tolerates replication lag
+     * @return Replica connection when replicas are configured, otherwise a writer connection
+     * @throws SQLException Database connection exception
+     */
+    public static Connection getReadConnection() throws SQLException {
+        return getReadConnection(null);
+    }
+    
+    /**
+     * Get a connection for read-only work on data that may have been written recently
+     * @param consistencyKey Key passed to recordWrite by the writers of this data
+     * @return Writer connection if the key was written within the read-your-writes
+     *         window, otherwise a replica connection when replicas are configured
+     * @throws SQLException Database connection exception
+     */
+    public static Connection getReadConnection(String consistencyKey) throws SQLException {
+        if (replicaRouter != null) {
+            long start = System.nanoTime();
+            try {
+                return replicaRouter.getReadConnection(consistencyKey);
+            } catch (SQLException e) {
+                READ_ACQUIRE_TIMER.recordError();
+                throw e;
+            } finally {
+                READ_ACQUIRE_TIMER.recordSince(start);
+            }
+        }
+        return getConnection();
+    }
+    
+    /**
+     * Record a committed write so that reads of the same key see it
+     * @param consistencyKey Key of the written data
+     */
+    public static void recordWrite(String consistencyKey) {
+        if (replicaRouter != null) {
+            replicaRouter.recordWrite(consistencyKey);
+        }
+    }
+    
+    private static LatencyHistogram acquireTimer(String route) {
+        return MetricsRegistry.getInstance().timer("db_connection_acquire_duration_seconds",
+            "Time to borrow a pooled database connection", "route", route);
+    }
+    
     /**
      * Close database connection
      * @param connection Connection to close
@@ -106,8 +228,94 @@ public class DatabaseUtil {
             try {
                 connection.close();
             } catch (SQLException e) {
-                System.err.println("Error occurred while closing database connection: " + e.getMessage());
+                LOG.error("Error occurred while closing database connection: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Get the connection pool
+     * @return Connection pool, null if pooling is disabled
+     */
+    public static ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+    
+    /**
+     * Get the read replica router
+     * @return Replica router, null if no replicas are configured
+     */
+    public static ReplicaRouter getReplicaRouter() {
+        return replicaRouter;
+    }
+    
+    /**
+     * Open pooled connections ahead of the first request
+     * Borrows up to the given number of writer connections at once and returns
+     * them, leaving them idle in the pool; replicas get one read connection.
+     * @param connections Writer connections to open, capped at the pool size
+     * @return Writer connections open in the pool afterwards
+     * @throws SQLException If a connection cannot be opened
+     */
+    public static int warmUp(int connections) throws SQLException {
+        if (connectionPool == null) {
+            closeConnection(getConnection());
+            return 0;
+        }
+
+        List<Connection> borrowed = new ArrayList<>();
+        try {
+            int count = Math.min(connections, connectionPool.getMaxSize());
+            for (int i = 0; i < count; i++) {
+                borrowed.add(connectionPool.getConnection());
             }
+        } finally {
+            for (Connection conn : borrowed) {
+                closeConnection(conn);
+            }
+        }
+        if (replicaRouter != null) {
+            closeConnection(replicaRouter.getReadConnection(null));
+            LOG.debug("Replica connection opened during warm-up");
+        }
+        return connectionPool.getTotalConnections();
+    }
+
+    /**
+     * Close the connection pools and release all physical connections
+     */
+    public static void shutdown() {
+        if (replicaRouter != null) {
+            LOG.info("Read routing: {} replica reads, {} writer reads, {} failovers",
+                replicaRouter.getReplicaReads(), replicaRouter.getWriterReads(), replicaRouter.getFailovers());
+            replicaRouter.close();
+        }
+        if (connectionPool != null) {
+            if (connectionPool.getStatementCacheSize() > 0) {
+                LOG.info("Statement cache: {} hits, {} misses, {} evictions, hit rate {}%",
+                    connectionPool.getStatementCacheHits(), connectionPool.getStatementCacheMisses(),
+                    connectionPool.getStatementCacheEvictions(),
+                    String.format("%.1f", connectionPool.getStatementCacheHitRate() * 100));
+            }
+            connectionPool.close();
+        }
+    }
+    
+    /**
+     * Check that the database answers, for health probes
+     * Runs db.validation.query on a pooled writer connection, waiting at most
+     * the timeout for one instead of the full connection timeout. Only opens a
+     * new physical connection when the pool has no idle one (or is disabled).
+     * @param timeoutMs Maximum wait for a connection, also used as the query timeout
+     * @throws SQLException If no connection is free in time or the query fails
+     */
+    public static void validate(long timeoutMs) throws SQLException {
+        Connection conn = connectionPool != null ? connectionPool.getConnection(timeoutMs) : getConnection();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.setQueryTimeout((int) Math.max(1, (timeoutMs + 999) / 1000));
+            stmt.execute(VALIDATION_QUERY);
+        } finally {
+            closeConnection(conn);
         }
     }
     
@@ -119,7 +327,7 @@ public class DatabaseUtil {
         try (Connection conn = getConnection()) {
             return conn != null && !conn.isClosed();
         } catch (SQLException e) {
-            System.err.println("Database connection test failed: " + e.getMessage());
+            LOG.error("Database connection test failed: {}", e.getMessage());
             return false;
         }
     }
@@ -0,0 +1,181 @@
+package com.example.webapp.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Precompiled HTML Template
+ * Splits a page into constant fragments and {{slot}} placeholders once, and
+ * keeps the fragments as pre-encoded UTF-8 bytes. Rendering writes those byte
+ * arrays straight to the output stream; only slot values are encoded per
+ * request, HTML-escaped into a reused per-thread buffer.
+ */
+public final class HtmlTemplate {
+    
+    private static final String SLOT_OPEN = "{{";
+    private static final String SLOT_CLOSE = "}}";
+    private static final int BUFFER_SIZE = 1024;
+    
+    private static final byte[] AMP = ascii("&amp;");
+    private static final byte[] LT = ascii("&lt;");
+    private static final byte[] GT = ascii("&gt;");
+    private static final byte[] QUOT = ascii("&quot;");
+    private static final byte[] APOS = ascii("&#39;");
+    
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+    
+    // fragments.length == slotNames.size() + 1; slot i is rendered between fragments i and i + 1
+    private final byte[][] fragments;
+    private final List<String> slotNames;
+    
+    private HtmlTemplate(byte[][] fragments, List<String> slotNames) {
+        this.fragments = fragments;
+        this.slotNames = slotNames;
+    }
+    
+    /**
+     * Compile template source
+     * @param source Template text with {{name}} placeholders
+     * @return Compiled template
+     */
+    public static HtmlTemplate compile(String source) {
+        List<byte[]> fragments = new ArrayList<>();
+        List<String> slotNames = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(SLOT_OPEN, position)) >= 0) {
+            int close = source.indexOf(SLOT_CLOSE, open + SLOT_OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed template slot at offset " + open);
+            }
+            String name = source.substring(open + SLOT_OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty template slot at offset " + open);
+            }
+            fragments.add(source.substring(position, open).getBytes(StandardCharsets.UTF_8));
+            slotNames.add(name);
+            position = close + SLOT_CLOSE.length();
+        }
+        fragments.add(source.substring(position).getBytes(StandardCharsets.UTF_8));
+        return new HtmlTemplate(fragments.toArray(new byte[0][]), Collections.unmodifiableList(slotNames));
+    }
+    
+    /**
+     * Load and compile a UTF-8 template from the classpath
+     * @param resource Resource name, e.g. templates/hello.html
+     * @return Compiled template
+     * @throws IOException If the resource is missing or unreadable
+     */
+    public static HtmlTemplate load(String resource) throws IOException {
+        try (InputStream input = HtmlTemplate.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IOException("Template not found: " + resource);
+            }
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] chunk = new byte[4096];
+            int read;
+            while ((read = input.read(chunk)) > 0) {
+                content.write(chunk, 0, read);
+            }
+            return compile(new String(content.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+    
+    /**
+     * @return Slot names in the order render expects their values
+     */
+    public List<String> getSlotNames() {
+        return slotNames;
+    }
+    
+    /**
+     * Render the template
+     * @param out Destination, typically the ServletOutputStream
+     * @param values One value per slot, in slot order; null renders as empty
+     * @throws IOException If writing fails
+     */
+    public void render(OutputStream out, String... values) throws IOException {
+        if (values.length != slotNames.size()) {
+            throw new IllegalArgumentException("Template expects " + slotNames.size()
+                + " values " + slotNames + " but got " + values.length);
+        }
+        byte[] buffer = BUFFER.get();
+        out.write(fragments[0]);
+        for (int i = 0; i < values.length; i++) {
+            writeEscaped(out, values[i], buffer);
+            out.write(fragments[i + 1]);
+        }
+    }
+    
+    /**
+     * HTML-escape and UTF-8 encode a value through the buffer
+     */
+    private static void writeEscaped(OutputStream out, String value, byte[] buffer) throws IOException {
+        if (value == null) {
+            return;
+        }
+        int length = value.length();
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            // Longest output per char: a 6-byte entity or a 4-byte surrogate pair
+            if (pos > buffer.length - 6) {
+                out.write(buffer, 0, pos);
+                pos = 0;
+            }
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                byte[] entity = escape(c);
+                if (entity == null) {
+                    buffer[pos++] = (byte) c;
+                } else {
+                    System.arraycopy(entity, 0, buffer, pos, entity.length);
+                    pos += entity.length;
+                }
+            } else if (c < 0x800) {
+                buffer[pos++] = (byte) (0xC0 | (c >> 6));
+                buffer[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogate, same replacement as String.getBytes
+                buffer[pos++] = (byte) '?';
+            } else {
+                buffer[pos++] = (byte) (0xE0 | (c >> 12));
+                buffer[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        out.write(buffer, 0, pos);
+    }
+    
+    private static byte[] escape(char c) {
+        switch (c) {
+            case '&':
+                return AMP;
+            case '<':
+                return LT;
+            case '>':
+                return GT;
+            case '"':
+                return QUOT;
+            case '\'':
+                return APOS;
+            default:
+                return null;
+        }
+    }
+    
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
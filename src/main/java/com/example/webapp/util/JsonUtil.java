@@ -0,0 +1,69 @@
+package com.example.webapp.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * JSON Utility Class
+ * Writes JSON values straight to a Writer so responses can be streamed
+ * without building the document in memory
+ */
+public class JsonUtil {
+    
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    
+    private JsonUtil() {
+    }
+    
+    /**
+     * Write a quoted and escaped JSON string, or null
+     * @param out Destination
+     * @param value String value, may be null
+     * @throws IOException If writing fails
+     */
+    public static void writeString(Writer out, String value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != '<' && c != 0x2028 && c != 0x2029) {
+                continue;
+            }
+            // Flush the run of plain characters, then the escape
+            out.write(value, start, i - start);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    // Control characters, '<' (keeps "</script>" inert) and JS line separators
+                    out.write("\\u");
+                    out.write(HEX[(c >> 12) & 0xF]);
+                    out.write(HEX[(c >> 8) & 0xF]);
+                    out.write(HEX[(c >> 4) & 0xF]);
+                    out.write(HEX[c & 0xF]);
+                    break;
+            }
+        }
+        out.write(value, start, length - start);
+        out.write('"');
+    }
+}
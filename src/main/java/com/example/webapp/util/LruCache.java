@@ -0,0 +1,169 @@
+package com.example.webapp.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU Cache with per-entry expiry
+ * Evicts the least recently used entry once the maximum size is reached.
+ * Access is guarded by the cache monitor, which is only held for map
+ * operations, never while loading values.
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class LruCache<K, V> {
+    
+    private final int maxEntries;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    
+    // Metrics
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    /**
+     * Create cache
+     * @param maxEntries Maximum number of entries
+     */
+    public LruCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    /**
+     * Get a cached value
+     * @param key Key
+     * @return Value, null if absent or expired
+     */
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > now) {
+                    hits.incrementAndGet();
+                    return entry.value;
+                }
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+    
+    /**
+     * Cache a value
+     * @param key Key
+     * @param value Value
+     * @param ttlMillis Time to live in milliseconds
+     */
+    public void put(K key, V value, long ttlMillis) {
+        Entry<V> entry = new Entry<>(value, System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+    }
+    
+    /**
+     * Remove a value
+     * @param key Key
+     * @return Removed value, null if absent
+     */
+    public V remove(K key) {
+        Entry<V> entry;
+        synchronized (this) {
+            entry = entries.remove(key);
+        }
+        return entry != null ? entry.value : null;
+    }
+    
+    /**
+     * Remove all values
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+    
+    /**
+     * Drop expired entries
+     * @return Number of entries removed
+     */
+    public synchronized int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt <= now) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        evictions.addAndGet(removed);
+        return removed;
+    }
+    
+    /**
+     * @return Number of cached entries, including expired ones not yet purged
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    /**
+     * @return Maximum number of entries
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+    
+    /**
+     * @return Number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+    
+    /**
+     * @return Number of lookups that found no live entry
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+    
+    /**
+     * @return Number of entries dropped because of size or expiry
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+    
+    /**
+     * Cached value with its expiry time
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+        
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
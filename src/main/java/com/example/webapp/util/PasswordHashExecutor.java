@@ -0,0 +1,130 @@
+package com.example.webapp.util;
+
+import com.example.webapp.metrics.LatencyHistogram;
+import com.example.webapp.metrics.MetricsRegistry;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Password Hashing Executor
+ * Runs BCrypt work on a dedicated pool sized to the CPU count so that password
+ * hashing cannot occupy every servlet container thread. The queue is bounded;
+ * when it is full, submit() throws RejectedExecutionException so callers can
+ * shed load immediately instead of queueing unbounded work.
+ * Hashing time itself is timed by PasswordUtil; this class times the queue wait.
+ */
+public class PasswordHashExecutor {
+    
+    private static final PasswordHashExecutor INSTANCE = new PasswordHashExecutor(
+        AppConfig.getInt("password.hash.threads", 0),
+        AppConfig.getInt("password.hash.queue.capacity", 64));
+    
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    
+    // Metrics
+    private final AtomicLong rejectedTasks = new AtomicLong();
+    private final LatencyHistogram queueWaitTimer = MetricsRegistry.getInstance().timer(
+        "password_hash_queue_wait_seconds", "Time hashing tasks wait for a worker", "pool", "password-hash");
+    
+    /**
+     * Create executor
+     * @param threads Worker threads, 0 or less to use the number of available processors
+     * @param queueCapacity Maximum number of tasks waiting for a worker
+     */
+    PasswordHashExecutor(int threads, int queueCapacity) {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<Runnable>(queueCapacity), new HashThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    /**
+     * Get shared executor instance
+     * @return PasswordHashExecutor instance
+     */
+    public static PasswordHashExecutor getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Submit password hashing work
+     * @param task Work that hashes or verifies a password
+     * @throws RejectedExecutionException If the queue is full or the executor is shut down
+     */
+    public void submit(Runnable task) {
+        final long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                queueWaitTimer.recordSince(queuedAt);
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedTasks.incrementAndGet();
+            throw e;
+        }
+    }
+    
+    /**
+     * Stop accepting work and let queued tasks finish
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    /**
+     * @return Number of tasks waiting for a worker
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+    
+    /**
+     * @return Maximum number of tasks that can wait for a worker
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+    
+    /**
+     * @return Number of workers currently hashing
+     */
+    public int getActiveWorkers() {
+        return executor.getActiveCount();
+    }
+    
+    /**
+     * @return Number of worker threads
+     */
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+    
+    /**
+     * @return Number of tasks rejected because the queue was full
+     */
+    public long getRejectedCount() {
+        return rejectedTasks.get();
+    }
+    
+    /**
+     * Creates named daemon worker threads
+     */
+    private static class HashThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
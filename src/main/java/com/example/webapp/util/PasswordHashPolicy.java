@@ -0,0 +1,30 @@
+package com.example.webapp.util;
+
+/**
+ * Password Hash Policy
+ * Decides how passwords are hashed and when a stored hash should be upgraded
+ */
+public interface PasswordHashPolicy {
+    
+    /**
+     * Hash a plain text password
+     * @param plainPassword Plain text password
+     * @return Hashed password
+     */
+    String hash(String plainPassword);
+    
+    /**
+     * Verify a plain text password against a stored hash
+     * @param plainPassword Plain text password
+     * @param hashedPassword Stored hash
+     * @return true if password matches
+     */
+    boolean verify(String plainPassword, String hashedPassword);
+    
+    /**
+     * Check whether a stored hash is weaker than this policy requires
+     * @param hashedPassword Stored hash
+     * @return true if the hash should be replaced on the next successful login
+     */
+    boolean needsRehash(String hashedPassword);
+}
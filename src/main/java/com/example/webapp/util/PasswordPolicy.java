@@ -0,0 +1,237 @@
+package com.example.webapp.util;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Password Policy
+ * Validates password strength in a single pass over the characters without
+ * regular expressions or allocation. Character-class rules and the length
+ * bounds are checked while the same pass computes a case-insensitive 64-bit
+ * hash that is looked up in a compact open-addressing set of common passwords.
+ */
+public class PasswordPolicy {
+    
+    private static final Logger LOG = LogManager.getLogger(PasswordPolicy.class);
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private final int minLength;
+    private final int maxLength;
+    private final boolean requireUppercase;
+    private final boolean requireLowercase;
+    private final boolean requireDigit;
+    private final boolean requireSpecial;
+    private final long[] deniedHashes;
+    private final int deniedCount;
+    private final String requirements;
+    
+    /**
+     * Create policy
+     * @param minLength Minimum number of characters
+     * @param maxLength Maximum number of characters, 0 for no limit
+     * @param requireUppercase Require an uppercase letter
+     * @param requireLowercase Require a lowercase letter
+     * @param requireDigit Require a digit
+     * @param requireSpecial Require a character that is not a letter or digit
+     * @param deniedPasswords Passwords that are rejected regardless of case
+     */
+    public PasswordPolicy(int minLength, int maxLength, boolean requireUppercase, boolean requireLowercase,
+                          boolean requireDigit, boolean requireSpecial, List<String> deniedPasswords) {
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.requireUppercase = requireUppercase;
+        this.requireLowercase = requireLowercase;
+        this.requireDigit = requireDigit;
+        this.requireSpecial = requireSpecial;
+        
+        // Power-of-two table at most half full keeps linear probing short
+        int capacity = Integer.highestOneBit(Math.max(4, deniedPasswords.size() * 2 - 1)) << 1;
+        this.deniedHashes = new long[capacity];
+        int count = 0;
+        for (String denied : deniedPasswords) {
+            if (addDeniedHash(hash(denied))) {
+                count++;
+            }
+        }
+        this.deniedCount = count;
+        this.requirements = describe();
+    }
+    
+    /**
+     * Build the policy from application.properties
+     * @return Configured policy
+     */
+    public static PasswordPolicy fromConfig() {
+        String denyListResource = AppConfig.getString("password.policy.denylist", "");
+        return new PasswordPolicy(
+            AppConfig.getInt("password.policy.min.length", 6),
+            AppConfig.getInt("password.policy.max.length", 0),
+            AppConfig.getBoolean("password.policy.require.uppercase", true),
+            AppConfig.getBoolean("password.policy.require.lowercase", true),
+            AppConfig.getBoolean("password.policy.require.digit", true),
+            AppConfig.getBoolean("password.policy.require.special", false),
+            denyListResource.isEmpty() ? new ArrayList<String>() : loadDenyList(denyListResource));
+    }
+    
+    /**
+     * Check a password against all rules
+     * @param password Password to check
+     * @return true if every rule is satisfied
+     */
+    public boolean isSatisfiedBy(CharSequence password) {
+        if (password == null) {
+            return false;
+        }
+        int length = password.length();
+        if (length < minLength || (maxLength > 0 && length > maxLength)) {
+            return false;
+        }
+        
+        boolean hasUppercase = false;
+        boolean hasLowercase = false;
+        boolean hasDigit = false;
+        boolean hasSpecial = false;
+        long hash = FNV_OFFSET_BASIS;
+        
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                hasUppercase = true;
+            } else if (c >= 'a' && c <= 'z') {
+                hasLowercase = true;
+            } else if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else {
+                hasSpecial = true;
+            }
+            hash = (hash ^ Character.toLowerCase(c)) * FNV_PRIME;
+        }
+        
+        if ((requireUppercase && !hasUppercase) || (requireLowercase && !hasLowercase)
+                || (requireDigit && !hasDigit) || (requireSpecial && !hasSpecial)) {
+            return false;
+        }
+        return deniedCount == 0 || !containsDeniedHash(hash);
+    }
+    
+    /**
+     * @return Human readable description of the active rules
+     */
+    public String getRequirements() {
+        return requirements;
+    }
+    
+    /**
+     * @return Number of passwords on the deny list
+     */
+    public int getDeniedCount() {
+        return deniedCount;
+    }
+    
+    private String describe() {
+        List<String> classes = new ArrayList<>();
+        if (requireUppercase) {
+            classes.add("uppercase");
+        }
+        if (requireLowercase) {
+            classes.add("lowercase");
+        }
+        if (requireDigit) {
+            classes.add("numbers");
+        }
+        if (requireSpecial) {
+            classes.add("special characters");
+        }
+        
+        StringBuilder text = new StringBuilder("Password must be ");
+        if (maxLength > 0) {
+            text.append(minLength).append(" to ").append(maxLength).append(" characters");
+        } else {
+            text.append("at least ").append(minLength).append(" characters");
+        }
+        for (int i = 0; i < classes.size(); i++) {
+            text.append(i == 0 ? " with " : (i == classes.size() - 1 ? (classes.size() > 2 ? ", and " : " and ") : ", "));
+            text.append(classes.get(i));
+        }
+        if (deniedCount > 0) {
+            text.append(", and must not be a commonly used password");
+        }
+        return text.toString();
+    }
+    
+    private static long hash(CharSequence value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ Character.toLowerCase(value.charAt(i))) * FNV_PRIME;
+        }
+        return hash;
+    }
+    
+    /**
+     * Zero marks an empty slot, so a real zero hash is stored as one
+     */
+    private static long slotValue(long hash) {
+        return hash == 0 ? 1 : hash;
+    }
+    
+    private boolean addDeniedHash(long hash) {
+        long value = slotValue(hash);
+        int mask = deniedHashes.length - 1;
+        int index = (int) (value ^ (value >>> 32)) & mask;
+        while (deniedHashes[index] != 0) {
+            if (deniedHashes[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        deniedHashes[index] = value;
+        return true;
+    }
+    
+    private boolean containsDeniedHash(long hash) {
+        long value = slotValue(hash);
+        int mask = deniedHashes.length - 1;
+        int index = (int) (value ^ (value >>> 32)) & mask;
+        while (deniedHashes[index] != 0) {
+            if (deniedHashes[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+    
+    /**
+     * Read one password per line from a classpath resource; blank lines and # comments are skipped
+     */
+    private static List<String> loadDenyList(String resource) {
+        List<String> passwords = new ArrayList<>();
+        try (InputStream input = PasswordPolicy.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                LOG.error("Password deny list not found: {}", resource);
+                return passwords;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    passwords.add(line);
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Password deny list loading failed: {}", e.getMessage());
+        }
+        return passwords;
+    }
+}
@@ -1,68 +1,151 @@
-package com.example.webapp.util;
-
-import org.mindrot.jbcrypt.BCrypt;
-
-/**
- * Password Security Utility Class
- * Handles password hashing and verification using BCrypt
- */
-public class PasswordUtil {
-    
-    private static final int BCRYPT_ROUNDS = 12;
-    
-    /**
-     * Hash a plain text password using BCrypt
-     * @param plainPassword Plain text password
-     * @return Hashed password
-     */
-    public static String hashPassword(String plainPassword) {
-        if (plainPassword == null || plainPassword.trim().isEmpty()) {
-            throw new IllegalArgumentException("Password cannot be null or empty");
-        }
-        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(BCRYPT_ROUNDS));
-    }
-    
-    /**
-     * Verify a plain text password against a hashed password
-     * @param plainPassword Plain text password
-     * @param hashedPassword Hashed password from database
-     * @return true if password matches, false otherwise
-     */
-    public static boolean verifyPassword(String plainPassword, String hashedPassword) {
-        if (plainPassword == null || hashedPassword == null) {
-            return false;
-        }
-        try {
-            return BCrypt.checkpw(plainPassword, hashedPassword);
-        } catch (Exception e) {
-            System.err.println("Error verifying password: " + e.getMessage());
-            return false;
-        }
-    }
-    
-    /**
-     * Check if password meets basic security requirements
-     * @param password Password to check
-     * @return true if password is strong enough
-     */
-    public static boolean isPasswordStrong(String password) {
-        if (password == null || password.length() < 6) {
-            return false;
-        }
-        
-        // Basic password strength check
-        boolean hasUppercase = password.matches(".*[A-Z].*");
-        boolean hasLowercase = password.matches(".*[a-z].*");
-        boolean hasDigit = password.matches(".*[0-9].*");
-        
-        return hasUppercase && hasLowercase && hasDigit;
-    }
-    
-    /**
-     * Get password requirements message
-     * @return Requirements message
-     */
-    public static String getPasswordRequirements() {
-        return "Password must be at least 6 characters with uppercase, lowercase, and numbers";
-    }
-}
+package com.example.webapp.util;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+import com.example.webapp.metrics.LatencyHistogram;
+import com.example.webapp.metrics.MetricsRegistry;
+
+/**
+ * Password Security Utility Class
+ * Handles password hashing and verification using BCrypt
+ * The hashing parameters come from the active PasswordHashPolicy
+ */
+public class PasswordUtil {
+    
+    private static final Logger LOG = LogManager.getLogger(PasswordUtil.class);
+    
+    private static final int DEFAULT_BCRYPT_COST = 12;
+    
+    private static final LatencyHistogram HASH_TIMER = hashTimer("hash");
+    private static final LatencyHistogram VERIFY_TIMER = hashTimer("verify");
+    
+    private static volatile PasswordHashPolicy hashPolicy = createDefaultPolicy();
+    private static volatile PasswordPolicy passwordPolicy = PasswordPolicy.fromConfig();
+    
+    /**
+     * Build the hash policy from application.properties
+     * @return Configured policy
+     */
+    private static PasswordHashPolicy createDefaultPolicy() {
+        if (AppConfig.getBoolean("password.bcrypt.calibrate", false)) {
+            long targetMillis = AppConfig.getLong("password.bcrypt.calibrate.target.ms", 250);
+            BCryptPasswordHashPolicy policy = BCryptPasswordHashPolicy.calibrate(targetMillis,
+                AppConfig.getInt("password.bcrypt.calibrate.min.cost", 10),
+                AppConfig.getInt("password.bcrypt.calibrate.max.cost", 16));
+            // Each node and restart may measure differently, so calibration is a one-off tool
+            LOG.warn("BCrypt cost calibrated to {} for a target of {}ms; set password.bcrypt.cost={} "
+                + "and password.bcrypt.calibrate=false so every node uses the same cost",
+                policy.getCost(), targetMillis, policy.getCost());
+            return policy;
+        }
+        return new BCryptPasswordHashPolicy(AppConfig.getInt("password.bcrypt.cost", DEFAULT_BCRYPT_COST));
+    }
+    
+    private static LatencyHistogram hashTimer(String operation) {
+        return MetricsRegistry.getInstance().timer("password_hash_duration_seconds",
+            "Time spent hashing and verifying passwords", "operation", operation);
+    }
+    
+    /**
+     * Get the active password hash policy
+     * @return Hash policy
+     */
+    public static PasswordHashPolicy getHashPolicy() {
+        return hashPolicy;
+    }
+    
+    /**
+     * Replace the active password hash policy
+     * @param policy New hash policy
+     */
+    public static void setHashPolicy(PasswordHashPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Password hash policy cannot be null");
+        }
+        hashPolicy = policy;
+    }
+    
+    /**
+     * Hash a plain text password using BCrypt
+     * @param plainPassword Plain text password
+     * @return Hashed password
+     */
+    public static String hashPassword(String plainPassword) {
+        if (plainPassword == null || plainPassword.trim().isEmpty()) {
+            throw new IllegalArgumentException("Password cannot be null or empty");
+        }
+        long start = System.nanoTime();
+        try {
+            return hashPolicy.hash(plainPassword);
+        } finally {
+            HASH_TIMER.recordSince(start);
+        }
+    }
+    
+    /**
+     * Verify a plain text password against a hashed password
+     * @param plainPassword Plain text password
+     * @param hashedPassword Hashed password from database
+     * @return true if password matches, false otherwise
+     */
+    public static boolean verifyPassword(String plainPassword, String hashedPassword) {
+        if (plainPassword == null || hashedPassword == null) {
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            return hashPolicy.verify(plainPassword, hashedPassword);
+        } catch (Exception e) {
+            VERIFY_TIMER.recordError();
+            LOG.error("Error verifying password: {}", e.getMessage());
+            return false;
+        } finally {
+            VERIFY_TIMER.recordSince(start);
+        }
+    }
+    
+    /**
+     * Check if a stored hash should be upgraded to the active policy
+     * @param hashedPassword Hashed password from database
+     * @return true if the hash is weaker than the active policy
+     */
+    public static boolean needsRehash(String hashedPassword) {
+        return hashedPassword != null && hashPolicy.needsRehash(hashedPassword);
+    }
+    
+    /**
+     * Check if password meets the configured password policy
+     * @param password Password to check
+     * @return true if password is strong enough
+     */
+    public static boolean isPasswordStrong(String password) {
+        return passwordPolicy.isSatisfiedBy(password);
+    }
+    
+    /**
+     * Get password requirements message
+     * @return Requirements message generated from the active policy rules
+     */
+    public static String getPasswordRequirements() {
+        return passwordPolicy.getRequirements();
+    }
+    
+    /**
+     * Get the active password policy
+     * @return Password policy
+     */
+    public static PasswordPolicy getPasswordPolicy() {
+        return passwordPolicy;
+    }
+    
+    /**
+     * Replace the active password policy
+     * @param policy New password policy
+     */
+    public static void setPasswordPolicy(PasswordPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Password policy cannot be null");
+        }
+        passwordPolicy = policy;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.webapp.util;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read Replica Router
+ * Spreads read-only work round-robin over healthy replica pools and sends
+ * everything else to the writer.
+ *
+ * Read-your-writes: callers record the consistency key of every row they
+ * change, and reads under that key go to the writer until the window has
+ * passed and the replicas have caught up. A replica that fails a borrow is
+ * taken out of rotation at once; a background check puts it back when it
+ * answers again. With no healthy replica, reads fall back to the writer.
+ */
+public class ReplicaRouter {
+    
+    private static final Logger LOG = LogManager.getLogger(ReplicaRouter.class);
+    
+    private final ConnectionPool writer;
+    private final List<Replica> replicas;
+    private final long readYourWritesMs;
+    private final int validationTimeoutSeconds;
+    private final LruCache<String, Boolean> recentWrites;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+    
+    // Metrics
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong writerReads = new AtomicLong();
+    private final AtomicLong failovers = new AtomicLong();
+    
+    /**
+     * Create router
+     * @param writer Writer pool
+     * @param replicaPools One pool per replica
+     * @param readYourWritesMs How long reads of a written key stay on the writer
+     * @param maxTrackedWrites Maximum number of remembered consistency keys
+     * @param healthCheckIntervalMs Interval of the replica health check
+     * @param validationTimeoutMs Timeout of a single health check
+     */
+    public ReplicaRouter(ConnectionPool writer, List<ConnectionPool> replicaPools, long readYourWritesMs,
+                         int maxTrackedWrites, long healthCheckIntervalMs, long validationTimeoutMs) {
+        this.writer = writer;
+        List<Replica> list = new ArrayList<>(replicaPools.size());
+        for (ConnectionPool pool : replicaPools) {
+            list.add(new Replica(pool));
+        }
+        this.replicas = Collections.unmodifiableList(list);
+        this.readYourWritesMs = readYourWritesMs;
+        this.validationTimeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(validationTimeoutMs));
+        this.recentWrites = new LruCache<>(maxTrackedWrites);
+        
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas,
+            healthCheckIntervalMs, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Borrow a connection for read-only work
+     * @param consistencyKey Key of the data being read, null if stale reads are acceptable
+     * @return Replica connection, or a writer connection if the key was written
+     *         recently or no replica is available
+     * @throws SQLException If no connection could be obtained
+     */
+    public Connection getReadConnection(String consistencyKey) throws SQLException {
+        if (consistencyKey != null && recentWrites.get(consistencyKey) != null) {
+            writerReads.incrementAndGet();
+            return writer.getConnection();
+        }
+        
+        int count = replicas.size();
+        int start = nextReplica.getAndIncrement() & Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            Replica replica = replicas.get((start + i) % count);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.pool.getConnection();
+                replicaReads.incrementAndGet();
+                return connection;
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+        
+        writerReads.incrementAndGet();
+        return writer.getConnection();
+    }
+    
+    /**
+     * Remember that a key was written so reads of it stay on the writer for the window
+     * @param consistencyKey Key of the written data
+     */
+    public void recordWrite(String consistencyKey) {
+        if (consistencyKey != null && readYourWritesMs > 0) {
+            recentWrites.put(consistencyKey, Boolean.TRUE, readYourWritesMs);
+        }
+    }
+    
+    /**
+     * Stop health checks and close all replica pools
+     */
+    public void close() {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            replica.pool.close();
+        }
+    }
+    
+    /**
+     * @return Number of configured replicas
+     */
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+    
+    /**
+     * @return Number of replicas currently in rotation
+     */
+    public int getHealthyReplicaCount() {
+        int healthy = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+    
+    /**
+     * @return Number of reads served by a replica
+     */
+    public long getReplicaReads() {
+        return replicaReads.get();
+    }
+    
+    /**
+     * @return Number of reads sent to the writer for consistency or because no replica was available
+     */
+    public long getWriterReads() {
+        return writerReads.get();
+    }
+    
+    /**
+     * @return Number of times a replica was taken out of rotation
+     */
+    public long getFailovers() {
+        return failovers.get();
+    }
+    
+    private void markDown(Replica replica, SQLException cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            failovers.incrementAndGet();
+            LOG.warn("Read replica taken out of rotation: {} ({})", replica.pool.getUrl(), cause.getMessage());
+        }
+    }
+    
+    /**
+     * Probe every replica; unhealthy ones rejoin the rotation once they answer
+     */
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (!connection.isValid(validationTimeoutSeconds)) {
+                    throw new SQLException("Validation failed");
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    LOG.info("Read replica back in rotation: {}", replica.pool.getUrl());
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+            } catch (RuntimeException e) {
+                LOG.warn("Read replica health check failed: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Replica pool with its rotation state
+     */
+    private static final class Replica {
+        private final ConnectionPool pool;
+        private volatile boolean healthy = true;
+        
+        Replica(ConnectionPool pool) {
+            this.pool = pool;
+        }
+    }
+}
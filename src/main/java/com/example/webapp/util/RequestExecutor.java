@@ -0,0 +1,134 @@
+package com.example.webapp.util;
+
+import com.example.webapp.logging.LogManager;
+import com.example.webapp.logging.Logger;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request Executor
+ * Decides where servlets run their blocking database work, based on
+ * request.execution.mode:
+ *   platform  on the container thread that received the request (default)
+ *   virtual   on a new virtual thread per request (Java 21+), which frees the
+ *             container thread while the request waits on MySQL
+ * 
+ * In virtual mode at most request.execution.max.concurrent requests are in
+ * flight; later ones are rejected so callers can answer 503. How many of them
+ * reach the database at once is still capped by the connection pool's permits.
+ */
+public class RequestExecutor {
+    
+    private static final Logger LOG = LogManager.getLogger(RequestExecutor.class);
+    
+    public static final String MODE_PLATFORM = "platform";
+    public static final String MODE_VIRTUAL = "virtual";
+    
+    private static final RequestExecutor INSTANCE = new RequestExecutor(
+        AppConfig.getString("request.execution.mode", MODE_PLATFORM),
+        AppConfig.getInt("request.execution.max.concurrent", 10000));
+    
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final int maxConcurrent;
+    private final AtomicLong rejected = new AtomicLong();
+    
+    /**
+     * Create executor
+     * @param mode platform or virtual
+     * @param maxConcurrent Maximum requests in flight in virtual mode
+     */
+    RequestExecutor(String mode, int maxConcurrent) {
+        String requested = mode == null ? MODE_PLATFORM : mode.trim().toLowerCase(Locale.ROOT);
+        ExecutorService virtualExecutor = null;
+        if (MODE_VIRTUAL.equals(requested)) {
+            if (VirtualThreads.isSupported()) {
+                virtualExecutor = VirtualThreads.newThreadPerTaskExecutor("request-");
+                LOG.info("Request execution mode: virtual threads, max concurrent requests: {}", maxConcurrent);
+            } else {
+                LOG.warn("request.execution.mode=virtual needs Java 21 or later, using platform threads");
+            }
+        } else if (!MODE_PLATFORM.equals(requested)) {
+            LOG.warn("Unknown request.execution.mode '{}', using platform threads", mode);
+        }
+        this.executor = virtualExecutor;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.inFlight = new Semaphore(this.maxConcurrent);
+    }
+    
+    /**
+     * Get singleton instance
+     * @return RequestExecutor instance
+     */
+    public static RequestExecutor getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * @return true if requests should be handed to execute()
+     */
+    public boolean isVirtual() {
+        return executor != null;
+    }
+    
+    /**
+     * Run request work on a virtual thread
+     * @param task Work that completes the request
+     * @throws RejectedExecutionException If too many requests are in flight or the executor is shut down
+     */
+    public void execute(Runnable task) {
+        if (executor == null) {
+            throw new IllegalStateException("Request executor is in platform mode");
+        }
+        if (!inFlight.tryAcquire()) {
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("Too many requests in flight");
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            rejected.incrementAndGet();
+            throw e;
+        }
+    }
+    
+    /**
+     * Stop accepting work and give running requests a moment to finish
+     */
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    /**
+     * @return Requests currently running on virtual threads
+     */
+    public int getInFlightCount() {
+        return maxConcurrent - inFlight.availablePermits();
+    }
+    
+    /**
+     * @return Requests rejected because the in-flight limit was reached
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.webapp.util;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Request Utility Class
+ * Helpers for reading client information from HTTP requests
+ */
+public class RequestUtil {
+    
+    // Header holding the real client address when running behind the Nginx reverse proxy
+    private static final String CLIENT_IP_HEADER = AppConfig.getString("client.ip.header", "");
+    
+    private RequestUtil() {
+    }
+    
+    /**
+     * Get the client IP address
+     * @param request Current request
+     * @return Client IP address
+     */
+    public static String getClientIp(HttpServletRequest request) {
+        if (!CLIENT_IP_HEADER.isEmpty()) {
+            String headerValue = request.getHeader(CLIENT_IP_HEADER);
+            if (headerValue != null && !headerValue.isEmpty()) {
+                return headerValue.trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
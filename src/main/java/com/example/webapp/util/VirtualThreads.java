@@ -0,0 +1,61 @@
+package com.example.webapp.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual Thread Support
+ * The application is compiled for Java 8, so the Java 21 virtual thread API
+ * is reached through reflection. On older runtimes isSupported() is false and
+ * callers keep using platform threads.
+ */
+public final class VirtualThreads {
+    
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    
+    private VirtualThreads() {
+    }
+    
+    /**
+     * @return true if the running JVM can create virtual threads
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+    
+    /**
+     * Create an executor that starts a new virtual thread for each task
+     * @param namePrefix Thread name prefix; threads are numbered from 0
+     * @return Executor; shut it down to stop accepting tasks
+     * @throws UnsupportedOperationException If the JVM has no virtual threads
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class
+                .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                .invoke(null, factory);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new UnsupportedOperationException("Virtual thread API not accessible", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Could not create virtual thread executor", e.getCause());
+        }
+    }
+    
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}